@@ -0,0 +1,73 @@
+import com.maxmind.geoip.LookupService;
+import java.io.IOException;
+import java.util.Random;
+
+/**
+ * Times getID() for random IPv4 addresses with different database options.
+ * Each option set is timed over 2M addresses in seven rounds, the first two
+ * are warm-up and the best of the other five is printed, together with the
+ * memory taken by the lookup structures built while opening.<p>
+ *
+ * Usage: java -cp &lt;classes&gt;:bench LookupBench &lt;database&gt; &lt;options&gt;...<p>
+ *
+ * For example "LookupBench city.dat 1 33" compares GEOIP_MEMORY_CACHE with
+ * GEOIP_MEMORY_CACHE | GEOIP_TREE_CACHE, and "LookupBench city.dat 33 129"
+ * the tree cache with GEOIP_RANGE_TABLE. Databases can be made with
+ * SyntheticDatabase. Earlier revisions are timed by running the same class
+ * against their classes.
+ */
+public class LookupBench {
+
+    private final static int ADDRESSES = 2000000;
+    private final static int ROUNDS = 7;
+    private final static int WARMUP = 2;
+
+    // keeps the lookups from being optimized away
+    static volatile long sink;
+
+    private static double time(LookupService service, long[] addresses) {
+        double best = Double.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            long sum = 0;
+            for (long address : addresses) {
+                sum += service.getID(address);
+            }
+            sink += sum;
+            double ns = (System.nanoTime() - start) / (double) addresses.length;
+            if (round >= WARMUP) {
+                best = Math.min(best, ns);
+            }
+        }
+        return best;
+    }
+
+    private static long memoryUsage(LookupService service) {
+        try {
+            return service.getIndexMemoryUsage();
+        }
+        catch (NoSuchMethodError e) {
+            // revisions before GEOIP_DIRECT_INDEX
+            return 0;
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: java LookupBench <database> <options>...");
+            System.exit(1);
+        }
+        Random random = new Random(7);
+        long[] addresses = new long[ADDRESSES];
+        for (int i = 0; i < addresses.length; i++) {
+            addresses[i] = random.nextInt() & 0xFFFFFFFFL;
+        }
+        for (int i = 1; i < args.length; i++) {
+            int options = Integer.parseInt(args[i]);
+            LookupService service = new LookupService(args[0], options);
+            double ns = time(service, addresses);
+            System.out.printf("options %-6d %8.1f ns %8.2f MB%n", options, ns, memoryUsage(service) / 1e6);
+            service.close();
+        }
+    }
+}
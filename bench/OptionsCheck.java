@@ -0,0 +1,113 @@
+import com.maxmind.geoip.LookupService;
+import com.maxmind.geoip.Network;
+import java.io.IOException;
+import java.util.Random;
+
+/**
+ * Checks that option sets answer IPv4 and IPv6 lookups the same way
+ * GEOIP_STANDARD does, on databases of either address width. An index
+ * that only answers one width must leave the other to the search tree.
+ * Networks are compared by id and by containing the address, since a
+ * range table reports the widest block with the same value.<p>
+ *
+ * Usage: java -cp &lt;classes&gt;:bench OptionsCheck &lt;country.dat&gt; &lt;v6.dat&gt;<p>
+ *
+ * Databases can be made with SyntheticDatabase. Every combination prints
+ * a line, and the exit status is 1 if any of them failed.
+ */
+public class OptionsCheck {
+
+    private final static int ADDRESSES = 100000;
+
+    // { database (0 for IPv4, 1 for IPv6), options, 1 to call compileStrideTrie() }
+    private final static int[][] COMBINATIONS = {
+        { 1, LookupService.GEOIP_RANGE_TABLE, 0 },
+        { 1, LookupService.GEOIP_RANGE_TABLE | LookupService.GEOIP_MMAP_CACHE, 0 },
+        { 0, LookupService.GEOIP_RANGE_TABLE, 0 },
+        { 0, LookupService.GEOIP_RANGE_TABLE | LookupService.GEOIP_MMAP_CACHE, 0 },
+        { 1, LookupService.GEOIP_STRIDE_TRIE, 0 },
+        { 1, LookupService.GEOIP_STRIDE_TRIE | LookupService.GEOIP_MMAP_CACHE, 0 },
+        { 1, LookupService.GEOIP_STANDARD, 1 },
+        { 0, LookupService.GEOIP_DIRECT_INDEX, 0 },
+        { 0, LookupService.GEOIP_DIRECT_INDEX | LookupService.GEOIP_MMAP_CACHE, 0 },
+    };
+
+    private final static int[] STRIDES = {16, 16, 8, 8, 8, 8, 8, 8, 8, 8, 8, 8, 8, 8};
+
+    private static String compare(LookupService expected, LookupService actual,
+            int[] ipv4, long[] ipv6) {
+        short[] ids = new short[ipv4.length];
+        actual.getCountryIds(ipv4, ids);
+        for (int i = 0; i < ipv4.length; i++) {
+            long ip = ipv4[i] & 0xFFFFFFFFL;
+            int id = expected.getID(ip);
+            if (actual.getID(ip) != id) {
+                return "getID(" + ip + ")";
+            }
+            if (!actual.getCountry(ip).getCode().equals(expected.getCountry(ip).getCode())) {
+                return "getCountry(" + ip + ")";
+            }
+            Network network = actual.getNetwork(ipv4[i]);
+            if (network.getId() != id || !network.contains(ipv4[i])) {
+                return "getNetwork(" + ip + ")";
+            }
+            if (ids[i] != expected.getCountryId(ipv4[i])) {
+                return "getCountryIds at " + i;
+            }
+        }
+        for (int i = 0; i < ipv6.length; i += 2) {
+            long high = ipv6[i];
+            long low = ipv6[i + 1];
+            if (actual.getCountryIdV6(high, low) != expected.getCountryIdV6(high, low)) {
+                return "getCountryIdV6(" + high + ", " + low + ")";
+            }
+            Network network = actual.getNetworkV6(high, low);
+            if (network.getId() != expected.getNetworkV6(high, low).getId() || !network.contains(high, low)) {
+                return "getNetworkV6(" + high + ", " + low + ")";
+            }
+        }
+        return null;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: java OptionsCheck <country.dat> <v6.dat>");
+            System.exit(1);
+        }
+        Random random = new Random(7);
+        int[] ipv4 = new int[ADDRESSES];
+        long[] ipv6 = new long[ADDRESSES * 2];
+        for (int i = 0; i < ipv4.length; i++) {
+            ipv4[i] = random.nextInt();
+            // mostly 2000::/3, where the allocated networks are
+            ipv6[2 * i] = (random.nextLong() >>> 3) | 0x2000000000000000L;
+            ipv6[2 * i + 1] = random.nextLong();
+        }
+        boolean failed = false;
+        for (int[] combination : COMBINATIONS) {
+            String database = args[combination[0]];
+            int options = combination[1];
+            String result;
+            LookupService expected = new LookupService(database, LookupService.GEOIP_STANDARD);
+            LookupService actual = new LookupService(database, options);
+            try {
+                if (combination[2] != 0) {
+                    actual.compileStrideTrie(STRIDES);
+                }
+                String mismatch = compare(expected, actual, ipv4, ipv6);
+                result = mismatch == null ? "ok" : "differs in " + mismatch;
+            }
+            catch (RuntimeException e) {
+                result = e.toString();
+            }
+            finally {
+                actual.close();
+                expected.close();
+            }
+            failed |= !result.equals("ok");
+            System.out.printf("%-14s options %-6d %s%s%n", database, options,
+                combination[2] != 0 ? "compiled " : "", result);
+        }
+        System.exit(failed ? 1 : 0);
+    }
+}
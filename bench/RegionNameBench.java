@@ -0,0 +1,71 @@
+import com.maxmind.geoip.regionName;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.zip.CRC32;
+
+/**
+ * Checks and times regionName.regionNameByCode(). Every country code AA to
+ * ZZ is looked up with every two character region code of digits and
+ * capital letters and a few malformed codes, and a checksum of all results
+ * is printed. Then random known regions are looked up in six rounds.<p>
+ *
+ * Usage: java -cp &lt;classes&gt;:bench RegionNameBench<p>
+ *
+ * Run it against the classes of the revision before the region name table
+ * as well: the same checksum means both give the same results.
+ */
+public class RegionNameBench {
+
+    private final static String CHARACTERS = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+    private final static String[] MALFORMED = {"a1", "--", "0a", "ABC"};
+    private final static int LOOKUPS = 1 << 16;
+    private final static int ROUNDS = 6;
+
+    private static void update(CRC32 crc, String name) {
+        crc.update(name == null ? new byte[] {0} : name.getBytes(StandardCharsets.UTF_8));
+        crc.update('\n');
+    }
+
+    public static void main(String[] args) {
+        CRC32 crc = new CRC32();
+        List<String[]> known = new ArrayList<String[]>();
+        for (char c0 = 'A'; c0 <= 'Z'; c0++) {
+            for (char c1 = 'A'; c1 <= 'Z'; c1++) {
+                String country = "" + c0 + c1;
+                for (int i = 0; i < CHARACTERS.length(); i++) {
+                    for (int j = 0; j < CHARACTERS.length(); j++) {
+                        String region = "" + CHARACTERS.charAt(i) + CHARACTERS.charAt(j);
+                        String name = regionName.regionNameByCode(country, region);
+                        update(crc, name);
+                        if (name != null) {
+                            known.add(new String[] {country, region});
+                        }
+                    }
+                }
+                for (String region : MALFORMED) {
+                    update(crc, regionName.regionNameByCode(country, region));
+                }
+            }
+        }
+        System.out.printf("%d regions, checksum %08x%n", known.size(), crc.getValue());
+
+        Random random = new Random(1);
+        String[][] queries = new String[LOOKUPS][];
+        for (int i = 0; i < queries.length; i++) {
+            queries[i] = known.get(random.nextInt(known.size()));
+        }
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            int length = 0;
+            for (int k = 0; k < 10; k++) {
+                for (String[] query : queries) {
+                    length += regionName.regionNameByCode(query[0], query[1]).length();
+                }
+            }
+            double ns = (System.nanoTime() - start) / (10.0 * queries.length);
+            System.out.printf("round %d: %.1f ns per lookup (%d)%n", round, ns, length);
+        }
+    }
+}
@@ -0,0 +1,210 @@
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Writes a synthetic country database and a synthetic city database (rev1)
+ * in the legacy .dat format, for benchmarks that should not depend on a
+ * licensed download. The networks are random prefixes with Gaussian
+ * lengths and the output is the same for the same scale.<p>
+ *
+ * Usage: java SyntheticDatabase &lt;directory&gt; &lt;prefixes&gt;<p>
+ *
+ * 400000 prefixes give a country tree of 334756 nodes and a city tree of
+ * 335872 nodes with 100000 records, the databases the benchmark figures
+ * in the history were taken with.
+ */
+public class SyntheticDatabase {
+
+    private final static int COUNTRY_BEGIN = 16776960;
+
+    private static final class Node {
+        final Node[] child = new Node[2];
+        final int[] leaf = {-1, -1};
+        int id;
+    }
+
+    private interface LeafValue {
+        int value(int leaf);
+    }
+
+    private final Random random = new Random(42);
+
+    private static int bit(long address, int depth) {
+        return (int) ((address >>> (31 - depth)) & 1);
+    }
+
+    private static void insert(Node root, long address, int length, int value) {
+        Node n = root;
+        for (int depth = 0; depth < length - 1; depth++) {
+            int b = bit(address, depth);
+            if (n.child[b] == null) {
+                Node m = new Node();
+                m.leaf[0] = m.leaf[1] = n.leaf[b];
+                n.child[b] = m;
+            }
+            n = n.child[b];
+        }
+        int b = bit(address, length - 1);
+        n.child[b] = null;
+        n.leaf[b] = value;
+    }
+
+    // number the nodes breadth first, the root is 0
+    private static List<Node> number(Node root) {
+        List<Node> nodes = new ArrayList<Node>();
+        ArrayDeque<Node> queue = new ArrayDeque<Node>();
+        queue.add(root);
+        while (!queue.isEmpty()) {
+            Node n = queue.poll();
+            n.id = nodes.size();
+            nodes.add(n);
+            for (int i = 0; i < 2; i++) {
+                if (n.child[i] != null) {
+                    queue.add(n.child[i]);
+                }
+            }
+        }
+        return nodes;
+    }
+
+    private Node randomTree(int prefixes, int minLength, int maxLength, int values) {
+        List<long[]> list = new ArrayList<long[]>();
+        for (int i = 0; i < prefixes; i++) {
+            int length = minLength + (int) Math.round(Math.abs(random.nextGaussian()) * (maxLength - minLength) / 3.0);
+            length = Math.min(length, maxLength);
+            random.nextLong();
+            long address = random.nextLong() & 0xFFFFFFFFL;
+            list.add(new long[] {address, length, random.nextInt(values)});
+        }
+        // shorter prefixes first, so longer ones split them
+        Collections.sort(list, new Comparator<long[]>() {
+            public int compare(long[] a, long[] b) {
+                return Long.compare(a[1], b[1]);
+            }
+        });
+        Node root = new Node();
+        for (long[] e : list) {
+            insert(root, e[0], (int) e[1], (int) e[2]);
+        }
+        return root;
+    }
+
+    private static void writeTree(OutputStream out, List<Node> nodes, LeafValue values) throws IOException {
+        for (Node n : nodes) {
+            for (int i = 0; i < 2; i++) {
+                int v = n.child[i] != null ? n.child[i].id : values.value(n.leaf[i]);
+                for (int j = 0; j < 3; j++) {
+                    out.write((v >>> (j * 8)) & 0xFF);
+                }
+            }
+        }
+    }
+
+    private static void writeInfo(OutputStream out, int type, int segments, boolean withSegments) throws IOException {
+        out.write(new byte[400]);
+        out.write(("GEO-" + (type + 105) + "FREE 20111001 Build 1 Copyright (c) synthetic").getBytes("ISO-8859-1"));
+        out.write(new byte[] {-1, -1, -1, (byte) type});
+        if (withSegments) {
+            for (int j = 0; j < 3; j++) {
+                out.write((segments >>> (j * 8)) & 0xFF);
+            }
+        }
+    }
+
+    private void writeCountry(File file, int prefixes) throws IOException {
+        List<Node> nodes = number(randomTree(prefixes, 6, 30, 252));
+        OutputStream out = new BufferedOutputStream(new FileOutputStream(file));
+        try {
+            writeTree(out, nodes, new LeafValue() {
+                public int value(int leaf) {
+                    return COUNTRY_BEGIN + (leaf < 0 ? 0 : leaf + 1);
+                }
+            });
+            writeInfo(out, 1, 0, false);
+        }
+        finally {
+            out.close();
+        }
+        System.out.println(file + ": " + nodes.size() + " nodes");
+    }
+
+    private void writeCity(File file, int prefixes) throws IOException {
+        final int records = Math.max(100, prefixes / 4);
+        ByteArrayOutputStream data = new ByteArrayOutputStream();
+        final int[] offsets = new int[records];
+        String[] cities = {"Springfield", "Z\u00fcrich", "London", "Paris", "Berlin", "K\u00f6ln", "Tokyo", "Sydney", ""};
+        for (int r = 0; r < records; r++) {
+            offsets[r] = data.size();
+            // 225 is the United States
+            int country = random.nextInt(5) == 0 ? 225 : 1 + random.nextInt(252);
+            data.write(country);
+            String region = random.nextInt(4) == 0 ? "" : (random.nextBoolean() ?
+                    "" + (char) ('A' + random.nextInt(26)) + (char) ('A' + random.nextInt(26)) :
+                    String.format("%02d", random.nextInt(100)));
+            if (country == 225) {
+                region = new String[] {"CA", "NY", "TX", "WA", "FL"}[random.nextInt(5)];
+            }
+            data.write(region.getBytes("ISO-8859-1"));
+            data.write(0);
+            String city = cities[random.nextInt(cities.length)] + (random.nextInt(3) == 0 ? "" : " " + random.nextInt(50));
+            data.write(city.getBytes("ISO-8859-1"));
+            data.write(0);
+            String postalCode = random.nextBoolean() ? "" : String.valueOf(10000 + random.nextInt(80000));
+            data.write(postalCode.getBytes("ISO-8859-1"));
+            data.write(0);
+            int latitude = (int) ((random.nextDouble() * 180 - 90 + 180) * 10000);
+            int longitude = (int) ((random.nextDouble() * 360 - 180 + 180) * 10000);
+            for (int j = 0; j < 3; j++) {
+                data.write((latitude >>> (j * 8)) & 0xFF);
+            }
+            for (int j = 0; j < 3; j++) {
+                data.write((longitude >>> (j * 8)) & 0xFF);
+            }
+            if (country == 225) {
+                int metroArea = (500 + random.nextInt(400)) * 1000 + random.nextInt(1000);
+                for (int j = 0; j < 3; j++) {
+                    data.write((metroArea >>> (j * 8)) & 0xFF);
+                }
+            }
+        }
+        List<Node> nodes = number(randomTree(prefixes, 6, 30, records + records / 5));
+        final int segments = nodes.size();
+        OutputStream out = new BufferedOutputStream(new FileOutputStream(file));
+        try {
+            // a fifth of the leaf values point past the records, meaning unknown
+            writeTree(out, nodes, new LeafValue() {
+                public int value(int leaf) {
+                    return leaf < 0 || leaf >= records ? segments : segments + offsets[leaf];
+                }
+            });
+            out.write(data.toByteArray());
+            writeInfo(out, 2, segments, true);
+        }
+        finally {
+            out.close();
+        }
+        System.out.println(file + ": " + segments + " nodes, " + records + " records");
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: java SyntheticDatabase <directory> <prefixes>");
+            System.exit(1);
+        }
+        File dir = new File(args[0]);
+        int prefixes = Integer.parseInt(args[1]);
+        SyntheticDatabase generator = new SyntheticDatabase();
+        generator.writeCountry(new File(dir, "country.dat"), prefixes);
+        generator.writeCity(new File(dir, "city.dat"), prefixes);
+    }
+}
@@ -0,0 +1,264 @@
+package com.maxmind.geoip;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Every record of a city database decoded once into columns, one array per
+ * field, used with GEOIP_COLUMNAR_CACHE. Records are numbered by ordinal in
+ * the order of their record ids, and strings are stored once in a shared
+ * dictionary, so a lookup only reads arrays.<p>
+ *
+ * The search tree is kept as child pointers like GEOIP_TREE_CACHE, except
+ * that a leaf holds the complement of the ordinal of its record, which makes
+ * every leaf negative.
+ *
+ * @see com.maxmind.geoip.LookupService#GEOIP_COLUMNAR_CACHE
+ */
+final class CityColumns {
+
+    // leaf of the empty record
+    private final static int NONE = Integer.MIN_VALUE;
+
+    private final int tree[];
+    private final int ids[];
+    private final byte country[];
+    private final float latitude[];
+    private final float longitude[];
+    private final int metroArea[];
+    private final int region[];
+    private final int city[];
+    private final int postalCode[];
+    private final String dictionary[];
+
+    private CityColumns(int tree[], int ids[]) {
+        this.tree = tree;
+        this.ids = ids;
+        int n = ids.length;
+        country = new byte[n];
+        latitude = new float[n];
+        longitude = new float[n];
+        metroArea = new int[n];
+        region = new int[n];
+        city = new int[n];
+        postalCode = new int[n];
+        dictionary = null;
+    }
+
+    private CityColumns(CityColumns c, String dictionary[]) {
+        tree = c.tree;
+        ids = c.ids;
+        country = c.country;
+        latitude = c.latitude;
+        longitude = c.longitude;
+        metroArea = c.metroArea;
+        region = c.region;
+        city = c.city;
+        postalCode = c.postalCode;
+        this.dictionary = dictionary;
+    }
+
+    /**
+     * Decodes every record the search tree leads to, spreading the work
+     * over one thread per processor.
+     *
+     * @param tree the search tree as decoded by GEOIP_TREE_CACHE. It is
+     *      rewritten in place unless copy is set.
+     * @param copy true to leave the tree alone and rewrite a copy.
+     * @param segment the first value that is a leaf rather than a node.
+     * @param records the buffer holding the records.
+     * @param base the position of record id 0 in the buffer.
+     * @param rev1 true for a revision 1 city database.
+     * @return the columns.
+     */
+    static CityColumns build(int tree[], boolean copy, final int segment,
+            final ByteBuffer records, final int base, final boolean rev1) {
+        // collect the distinct record ids
+        int leaves[] = new int[tree.length];
+        int count = 0;
+        for (int x : tree) {
+            if (x > segment) {
+                leaves[count++] = x - segment;
+            }
+        }
+        Arrays.sort(leaves, 0, count);
+        int n = 0;
+        for (int i = 0; i < count; i++) {
+            if (n == 0 || leaves[n - 1] != leaves[i]) {
+                leaves[n++] = leaves[i];
+            }
+        }
+        final int ids[] = Arrays.copyOf(leaves, n);
+        final int nodes[] = copy ? tree.clone() : tree;
+        final CityColumns columns = new CityColumns(nodes, ids);
+        final String regions[] = new String[n];
+        final String cities[] = new String[n];
+        final String postalCodes[] = new String[n];
+
+        // decode the records and point the leaves at them in parallel
+        int threads = Math.max(1, Runtime.getRuntime().availableProcessors());
+        final Throwable failure[] = new Throwable[1];
+        Thread workers[] = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            final int from = (int) ((long) n * t / threads);
+            final int to = (int) ((long) n * (t + 1) / threads);
+            final int nodesFrom = (int) ((long) nodes.length * t / threads);
+            final int nodesTo = (int) ((long) nodes.length * (t + 1) / threads);
+            workers[t] = new Thread(new Runnable() {
+                public void run() {
+                    try {
+                        for (int i = from; i < to; i++) {
+                            int pos = base + ids[i];
+                            Location loc = LookupService.decodeLocation(records, pos, rev1);
+                            columns.country[i] = records.get(pos);
+                            columns.latitude[i] = loc.latitude;
+                            columns.longitude[i] = loc.longitude;
+                            columns.metroArea[i] = loc.dma_code * 1000 + loc.area_code;
+                            regions[i] = loc.region;
+                            cities[i] = loc.city;
+                            postalCodes[i] = loc.postalCode;
+                        }
+                        for (int i = nodesFrom; i < nodesTo; i++) {
+                            int x = nodes[i];
+                            if (x == segment) {
+                                nodes[i] = NONE;
+                            } else if (x > segment) {
+                                nodes[i] = ~Arrays.binarySearch(ids, x - segment);
+                            }
+                        }
+                    }
+                    catch (Throwable e) {
+                        synchronized (failure) {
+                            failure[0] = e;
+                        }
+                    }
+                }
+            }, "GeoIP record decoder");
+            workers[t].start();
+        }
+        boolean interrupted = false;
+        for (Thread worker : workers) {
+            while (worker.isAlive()) {
+                try {
+                    worker.join();
+                }
+                catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (failure) {
+            if (failure[0] != null) {
+                throw new IllegalStateException("Malformed city record", failure[0]);
+            }
+        }
+
+        // strings go into the dictionary once
+        Map<String, Integer> index = new HashMap<String, Integer>();
+        List<String> dictionary = new ArrayList<String>();
+        intern(regions, columns.region, index, dictionary);
+        intern(cities, columns.city, index, dictionary);
+        intern(postalCodes, columns.postalCode, index, dictionary);
+        return new CityColumns(columns, dictionary.toArray(new String[dictionary.size()]));
+    }
+
+    private static void intern(String strings[], int refs[], Map<String, Integer> index, List<String> dictionary) {
+        for (int i = 0; i < strings.length; i++) {
+            String s = strings[i];
+            if (s == null) {
+                refs[i] = -1;
+                continue;
+            }
+            Integer ref = index.get(s);
+            if (ref == null) {
+                ref = dictionary.size();
+                index.put(s, ref);
+                dictionary.add(s);
+            }
+            refs[i] = ref;
+        }
+    }
+
+    /**
+     * Looks up an IPv4 address.
+     *
+     * @param ipAddress the ip address in long format.
+     * @return the ordinal of the record, -1 if the address is unknown, in
+     *      the low 32 bits and the netmask in the high 32 bits.
+     */
+    long seek(long ipAddress) {
+        int nodes[] = tree;
+        int offset = 0;
+        for (int depth = 31; depth >= 0; depth--) {
+            int x = nodes[(offset << 1) | (int) ((ipAddress >>> depth) & 1)];
+            if (x < 0) {
+                int ordinal = x == NONE ? -1 : ~x;
+                return ((long) (32 - depth) << 32) | (ordinal & 0xFFFFFFFFL);
+            }
+            offset = x;
+        }
+
+        // shouldn't reach here
+        System.err.println("Error seeking country while seeking " + ipAddress);
+        return 0xFFFFFFFFL;
+    }
+
+    /**
+     * Returns the ordinal of a record id.
+     *
+     * @return the ordinal, or -1 if the search tree does not lead to it.
+     */
+    int ordinalOf(int id) {
+        int ordinal = Arrays.binarySearch(ids, id);
+        return ordinal < 0 ? -1 : ordinal;
+    }
+
+    /**
+     * Returns a new Location with the fields of a record.
+     */
+    Location getLocation(int ordinal) {
+        Location record = new Location();
+        int id = country[ordinal] & 0xFF;
+        Country c = LookupService.getCountryById(id);
+        record.countryCode = c.getCode();
+        record.countryName = c.getName();
+        record.region = string(region[ordinal]);
+        record.city = string(city[ordinal]);
+        record.postalCode = string(postalCode[ordinal]);
+        record.latitude = latitude[ordinal];
+        record.longitude = longitude[ordinal];
+        record.metro_code = record.dma_code = metroArea[ordinal] / 1000;
+        record.area_code = metroArea[ordinal] % 1000;
+        return record;
+    }
+
+    private String string(int index) {
+        return index < 0 ? null : dictionary[index];
+    }
+
+    /**
+     * Returns the number of records.
+     */
+    int size() {
+        return ids.length;
+    }
+
+    /**
+     * Returns the memory used by the columns and the dictionary in bytes,
+     * counting each string with its object headers.
+     */
+    long memoryUsage() {
+        long usage = 4L * tree.length + 29L * ids.length;
+        for (String s : dictionary) {
+            usage += 40 + s.length();
+        }
+        return usage;
+    }
+}
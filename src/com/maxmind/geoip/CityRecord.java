@@ -0,0 +1,188 @@
+package com.maxmind.geoip;
+
+import java.time.ZoneId;
+
+/**
+ * A decoded city record together with the name of its region and its time
+ * zone. Instances are immutable, so LookupService shares one instance among
+ * all addresses that point to the same record.
+ *
+ * @see com.maxmind.geoip.LookupService#getCityRecord(long)
+ */
+public final class CityRecord {
+
+    private final int id;
+    private final String countryCode;
+    private final String countryName;
+    private final String region;
+    private final String city;
+    private final String postalCode;
+    private final float latitude;
+    private final float longitude;
+    private final int dmaCode;
+    private final int areaCode;
+    private final String regionName;
+    private final String timeZone;
+    private final ZoneId zoneId;
+
+    /**
+     * Creates a record from a decoded location, looking up its region name
+     * and time zone.
+     *
+     * @param id the record id, as found in Network.getId().
+     * @param loc the decoded location.
+     */
+    CityRecord(int id, Location loc) {
+        this.id = id;
+        countryCode = loc.countryCode;
+        countryName = loc.countryName;
+        region = loc.region;
+        city = loc.city;
+        postalCode = loc.postalCode;
+        latitude = loc.latitude;
+        longitude = loc.longitude;
+        dmaCode = loc.dma_code;
+        areaCode = loc.area_code;
+        // regionName.encode() reads the first two characters of the region
+        // code and turns shorter or malformed codes, like a missing country,
+        // into a null name
+        regionName = com.maxmind.geoip.regionName.regionNameByCode(countryCode, region);
+        timeZone = com.maxmind.geoip.timeZone.timeZoneByCountryAndRegion(countryCode, region);
+        zoneId = com.maxmind.geoip.timeZone.zoneIdByCountryAndRegion(countryCode, region);
+    }
+
+    /**
+     * Returns the record id, the same for all addresses of the record.
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Returns the ISO two-letter country code.
+     */
+    public String getCountryCode() {
+        return countryCode;
+    }
+
+    /**
+     * Returns the country name.
+     */
+    public String getCountryName() {
+        return countryName;
+    }
+
+    /**
+     * Returns the region code.
+     *
+     * @return the region, or null if the record has none.
+     */
+    public String getRegion() {
+        return region;
+    }
+
+    /**
+     * Returns the name of the region.
+     *
+     * @return the name, or null if the region is unknown.
+     */
+    public String getRegionName() {
+        return regionName;
+    }
+
+    /**
+     * Returns the city name.
+     *
+     * @return the city, or null if the record has none.
+     */
+    public String getCity() {
+        return city;
+    }
+
+    /**
+     * Returns the postal code.
+     *
+     * @return the postal code, or null if the record has none.
+     */
+    public String getPostalCode() {
+        return postalCode;
+    }
+
+    /**
+     * Returns the latitude in degrees.
+     */
+    public float getLatitude() {
+        return latitude;
+    }
+
+    /**
+     * Returns the longitude in degrees.
+     */
+    public float getLongitude() {
+        return longitude;
+    }
+
+    /**
+     * Returns the DMA code of a US record of a revision 1 city database.
+     *
+     * @return the DMA code, or 0.
+     */
+    public int getDmaCode() {
+        return dmaCode;
+    }
+
+    /**
+     * Returns the metro code, the same as the DMA code.
+     *
+     * @return the metro code, or 0.
+     */
+    public int getMetroCode() {
+        return dmaCode;
+    }
+
+    /**
+     * Returns the area code of a US record of a revision 1 city database.
+     *
+     * @return the area code, or 0.
+     */
+    public int getAreaCode() {
+        return areaCode;
+    }
+
+    /**
+     * Returns the time zone of the region, or of the country if it has only
+     * one.
+     *
+     * @return the time zone id, e.g. "Europe/Berlin", or null if unknown.
+     */
+    public String getTimeZone() {
+        return timeZone;
+    }
+
+    /**
+     * Returns the time zone of the region as a shared ZoneId.
+     *
+     * @return the zone, or null if it is unknown.
+     */
+    public ZoneId getZoneId() {
+        return zoneId;
+    }
+
+    /**
+     * Returns a new Location with the fields of the record, as
+     * LookupService.getLocation() returns it.
+     */
+    public Location toLocation() {
+        Location loc = new Location();
+        loc.countryCode = countryCode;
+        loc.countryName = countryName;
+        loc.region = region;
+        loc.city = city;
+        loc.postalCode = postalCode;
+        loc.latitude = latitude;
+        loc.longitude = longitude;
+        loc.dma_code = loc.metro_code = dmaCode;
+        loc.area_code = areaCode;
+        return loc;
+    }
+}
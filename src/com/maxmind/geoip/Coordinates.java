@@ -0,0 +1,282 @@
+package com.maxmind.geoip;
+
+import java.util.Arrays;
+
+/**
+ * The coordinates of many locations, kept in primitive arrays as radians
+ * together with the cosine of the latitude, so great-circle distances
+ * between them need no conversions and half the trigonometry of
+ * Location.distance(). Meant for proximity checks between all online
+ * players:
+ * <pre>
+ * Coordinates players = new Coordinates(n);
+ * for (int i = 0; i &lt; n; i++) {
+ *     players.set(i, cityLookup.getCityRecord(addresses[i]));
+ * }
+ * double km[] = new double[n * n];
+ * players.distances(players, km, Coordinates.EQUIRECTANGULAR);
+ * </pre>
+ *
+ * Three methods trade accuracy for speed. The errors are measured against
+ * HAVERSINE over random pairs of points:
+ * <ul>
+ * <li>HAVERSINE is the formula of Location.distance(), exact to rounding.
+ * <li>HAVERSINE_FAST replaces the sine and arcsine with polynomials, with
+ *     an absolute error below 1 meter at any distance. It is about four
+ *     times as fast.
+ * <li>EQUIRECTANGULAR projects both points onto a plane at their mean
+ *     latitude and needs no trigonometry at all, about ten times as fast.
+ *     With both points within 70 degrees of the equator the relative error
+ *     is below 0.01% up to 100 km, below 0.1% up to 300 km and about 1% at
+ *     1000 km, and it grows quickly beyond that. Use it to compare nearby
+ *     players, not to measure across continents.
+ * </ul>
+ * Points that were never set lie at latitude and longitude 0. Instances
+ * are not safe for use by several threads while they are being set.
+ */
+public final class Coordinates {
+
+    /**
+     * The exact haversine formula, as used by Location.distance().
+     */
+    public final static int HAVERSINE = 0;
+
+    /**
+     * The haversine formula with polynomial sine and arcsine, accurate to
+     * 1 meter.
+     */
+    public final static int HAVERSINE_FAST = 1;
+
+    /**
+     * The equirectangular approximation, accurate to 0.1% up to 300 km.
+     */
+    public final static int EQUIRECTANGULAR = 2;
+
+    /**
+     * The radius of the earth in km, the same as used by Location.
+     */
+    public final static double EARTH_RADIUS = 6378.2;
+
+    private final static double RAD_CONVERT = Math.PI / 180;
+
+    private final double latitude[];
+    private final double longitude[];
+    private final double cosLatitude[];
+
+    /**
+     * Creates coordinates for a number of locations, all at latitude and
+     * longitude 0.
+     *
+     * @param size the number of locations.
+     */
+    public Coordinates(int size) {
+        latitude = new double[size];
+        longitude = new double[size];
+        cosLatitude = new double[size];
+        Arrays.fill(cosLatitude, 1);
+    }
+
+    /**
+     * Sets a location.
+     *
+     * @param i the index of the location.
+     * @param latitude the latitude in degrees.
+     * @param longitude the longitude in degrees.
+     */
+    public void set(int i, double latitude, double longitude) {
+        this.latitude[i] = latitude * RAD_CONVERT;
+        this.longitude[i] = longitude * RAD_CONVERT;
+        cosLatitude[i] = Math.cos(this.latitude[i]);
+    }
+
+    /**
+     * Sets a location to the coordinates of a Location.
+     */
+    public void set(int i, Location loc) {
+        set(i, loc.latitude, loc.longitude);
+    }
+
+    /**
+     * Sets a location to the coordinates of a CityRecord.
+     */
+    public void set(int i, CityRecord record) {
+        set(i, record.getLatitude(), record.getLongitude());
+    }
+
+    /**
+     * Returns the number of locations.
+     */
+    public int size() {
+        return latitude.length;
+    }
+
+    /**
+     * Returns the latitude of a location in radians.
+     */
+    public double getLatitudeRadians(int i) {
+        return latitude[i];
+    }
+
+    /**
+     * Returns the longitude of a location in radians.
+     */
+    public double getLongitudeRadians(int i) {
+        return longitude[i];
+    }
+
+    /**
+     * Returns the distance between two locations.
+     *
+     * @param i the index of a location here.
+     * @param other the coordinates of the other location, may be this.
+     * @param j the index of the other location.
+     * @param method HAVERSINE, HAVERSINE_FAST or EQUIRECTANGULAR.
+     * @return the distance in km.
+     */
+    public double distance(int i, Coordinates other, int j, int method) {
+        double lat1 = latitude[i];
+        double lon1 = longitude[i];
+        double cos1 = cosLatitude[i];
+        switch (method) {
+            case HAVERSINE:
+                return haversine(lat1, lon1, cos1, other.latitude[j], other.longitude[j], other.cosLatitude[j]);
+            case HAVERSINE_FAST:
+                return haversineFast(lat1, lon1, cos1, other.latitude[j], other.longitude[j], other.cosLatitude[j]);
+            case EQUIRECTANGULAR:
+                return equirectangular(lat1, lon1, cos1, other.latitude[j], other.longitude[j], other.cosLatitude[j]);
+            default:
+                throw new IllegalArgumentException("Unknown distance method " + method);
+        }
+    }
+
+    /**
+     * Computes the distances from one location to every location of others.
+     *
+     * @param i the index of a location here.
+     * @param others the other locations, may be this.
+     * @param out receives the distance in km to others[j] at index j.
+     * @param method HAVERSINE, HAVERSINE_FAST or EQUIRECTANGULAR.
+     */
+    public void distances(int i, Coordinates others, double out[], int method) {
+        int n = others.size();
+        if (out.length < n) {
+            throw new IllegalArgumentException("Output array is shorter than the locations");
+        }
+        row(latitude[i], longitude[i], cosLatitude[i], others, out, 0, method);
+    }
+
+    /**
+     * Computes the distances from every location here to every location of
+     * others.
+     *
+     * @param others the other locations, may be this.
+     * @param out receives the distance in km from location i to others[j]
+     *      at index i * others.size() + j.
+     * @param method HAVERSINE, HAVERSINE_FAST or EQUIRECTANGULAR.
+     */
+    public void distances(Coordinates others, double out[], int method) {
+        int n = others.size();
+        if (out.length / Math.max(1, n) < size()) {
+            throw new IllegalArgumentException("Output array is shorter than the locations");
+        }
+        for (int i = 0; i < latitude.length; i++) {
+            row(latitude[i], longitude[i], cosLatitude[i], others, out, i * n, method);
+        }
+    }
+
+    // one loop per method keeps the switch out of the inner loop
+    private static void row(double lat1, double lon1, double cos1, Coordinates others,
+            double out[], int offset, int method) {
+        double lat[] = others.latitude;
+        double lon[] = others.longitude;
+        double cos[] = others.cosLatitude;
+        int n = lat.length;
+        switch (method) {
+            case HAVERSINE:
+                for (int j = 0; j < n; j++) {
+                    out[offset + j] = haversine(lat1, lon1, cos1, lat[j], lon[j], cos[j]);
+                }
+                break;
+            case HAVERSINE_FAST:
+                for (int j = 0; j < n; j++) {
+                    out[offset + j] = haversineFast(lat1, lon1, cos1, lat[j], lon[j], cos[j]);
+                }
+                break;
+            case EQUIRECTANGULAR:
+                for (int j = 0; j < n; j++) {
+                    out[offset + j] = equirectangular(lat1, lon1, cos1, lat[j], lon[j], cos[j]);
+                }
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown distance method " + method);
+        }
+    }
+
+    private static double haversine(double lat1, double lon1, double cos1,
+            double lat2, double lon2, double cos2) {
+        double sinLat = Math.sin((lat2 - lat1) / 2);
+        double sinLon = Math.sin((lon2 - lon1) / 2);
+        double h = sinLat * sinLat + cos1 * cos2 * sinLon * sinLon;
+        h = Math.min(1, h);
+        return 2 * EARTH_RADIUS * Math.atan2(Math.sqrt(h), Math.sqrt(1 - h));
+    }
+
+    private static double haversineFast(double lat1, double lon1, double cos1,
+            double lat2, double lon2, double cos2) {
+        double sinLat = sinHalf(lat2 - lat1);
+        double sinLon = sinHalf(lon2 - lon1);
+        double h = sinLat * sinLat + cos1 * cos2 * sinLon * sinLon;
+        return 2 * EARTH_RADIUS * asin(Math.sqrt(Math.min(1, h)));
+    }
+
+    private static double equirectangular(double lat1, double lon1, double cos1,
+            double lat2, double lon2, double cos2) {
+        double dLon = lon2 - lon1;
+        // take the short way around the antimeridian
+        if (dLon > Math.PI) {
+            dLon -= 2 * Math.PI;
+        } else if (dLon < -Math.PI) {
+            dLon += 2 * Math.PI;
+        }
+        double x = dLon * (cos1 + cos2) / 2;
+        double y = lat2 - lat1;
+        return EARTH_RADIUS * Math.sqrt(x * x + y * y);
+    }
+
+    /**
+     * Returns |sin(x / 2)| for x in [-2 pi, 2 pi], with an error below 1e-11.
+     */
+    private static double sinHalf(double x) {
+        double a = Math.abs(x) / 2;
+        if (a > Math.PI / 2) {
+            a = Math.PI - a;
+        }
+        // Taylor series up to x^17
+        double a2 = a * a;
+        double p = 1.0 / 355687428096000.0;
+        p = -1.0 / 1307674368000.0 + a2 * p;
+        p = 1.0 / 6227020800.0 + a2 * p;
+        p = -1.0 / 39916800 + a2 * p;
+        p = 1.0 / 362880 + a2 * p;
+        p = -1.0 / 5040 + a2 * p;
+        p = 1.0 / 120 + a2 * p;
+        p = -1.0 / 6 + a2 * p;
+        return a * (1 + a2 * p);
+    }
+
+    /**
+     * Returns asin(x) for x in [0, 1], with an error below 2e-8, after
+     * Abramowitz and Stegun 4.4.46.
+     */
+    private static double asin(double x) {
+        double p = -0.0012624911;
+        p = 0.0066700901 + x * p;
+        p = -0.0170881256 + x * p;
+        p = 0.0308918810 + x * p;
+        p = -0.0501743046 + x * p;
+        p = 0.0889789874 + x * p;
+        p = -0.2145988016 + x * p;
+        p = 1.5707963050 + x * p;
+        return Math.PI / 2 - Math.sqrt(1 - x) * p;
+    }
+}
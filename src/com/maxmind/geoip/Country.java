@@ -21,14 +21,16 @@
 package com.maxmind.geoip;
 
 /**
- * Represents a country.
+ * Represents a country. Instances are immutable, LookupService hands out one
+ * shared instance per country.
  * 
  * @author Matt Tucker
+ * @see LookupService#getCountryById(int)
  */
 public class Country {
 
-    private String code;
-    private String name;
+    private final String code;
+    private final String name;
 
     /**
      * Creates a new Country.
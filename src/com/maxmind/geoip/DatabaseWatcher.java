@@ -0,0 +1,149 @@
+package com.maxmind.geoip;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Watches the directories of databases opened with GEOIP_CHECK_CACHE and
+ * tells them to reload when something in the directory changes. One daemon
+ * thread serves all databases and stops when the last one is closed.<p>
+ *
+ * Files are usually written in several steps, so the watcher waits until
+ * the directory has been quiet for SETTLE_MILLIS before reloading, and a
+ * database is only reloaded once its size has stayed the same for that
+ * long. A database that fails to load keeps its current copy.
+ *
+ * @see com.maxmind.geoip.LookupService#GEOIP_CHECK_CACHE
+ */
+final class DatabaseWatcher implements Runnable {
+
+    private final static long SETTLE_MILLIS = 500;
+
+    private static DatabaseWatcher instance = null;
+
+    private final WatchService watchService;
+    private final Map<Path, List<LookupService>> services = new HashMap<Path, List<LookupService>>();
+    private final Map<Path, WatchKey> keys = new HashMap<Path, WatchKey>();
+
+    private DatabaseWatcher() throws IOException {
+        watchService = FileSystems.getDefault().newWatchService();
+    }
+
+    /**
+     * Waits SETTLE_MILLIS and tells whether the file still has the same size
+     * and modification time. A file still being copied is left alone, its
+     * next change brings it back here.
+     */
+    static boolean isSettled(File databaseFile, long mtime) {
+        long length = databaseFile.length();
+        if (length == 0) {
+            return false;
+        }
+        try {
+            Thread.sleep(SETTLE_MILLIS);
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        return databaseFile.length() == length && databaseFile.lastModified() == mtime;
+    }
+
+    private static Path directory(File databaseFile) {
+        return databaseFile.getAbsoluteFile().getParentFile().toPath();
+    }
+
+    /**
+     * Starts watching the file of a database.
+     */
+    static synchronized void register(LookupService service, File databaseFile) throws IOException {
+        if (instance == null) {
+            instance = new DatabaseWatcher();
+            Thread thread = new Thread(instance, "GeoIP database watcher");
+            thread.setDaemon(true);
+            thread.start();
+        }
+        Path dir = directory(databaseFile);
+        List<LookupService> list = instance.services.get(dir);
+        if (list == null) {
+            instance.keys.put(dir, dir.register(instance.watchService,
+                StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY));
+            list = new ArrayList<LookupService>();
+            instance.services.put(dir, list);
+        }
+        list.add(service);
+    }
+
+    /**
+     * Stops watching the file of a database.
+     */
+    static synchronized void unregister(LookupService service, File databaseFile) {
+        if (instance == null) {
+            return;
+        }
+        Path dir = directory(databaseFile);
+        List<LookupService> list = instance.services.get(dir);
+        if (list == null || !list.remove(service) || !list.isEmpty()) {
+            return;
+        }
+        instance.services.remove(dir);
+        instance.keys.remove(dir).cancel();
+        if (instance.services.isEmpty()) {
+            try {
+                instance.watchService.close();
+            }
+            catch (IOException e) { }
+            instance = null;
+        }
+    }
+
+    public void run() {
+        try {
+            for (;;) {
+                Set<Path> changed = new HashSet<Path>();
+                WatchKey key = watchService.take();
+                while (key != null) {
+                    key.pollEvents();
+                    changed.add((Path) key.watchable());
+                    key.reset();
+                    key = watchService.poll(SETTLE_MILLIS, TimeUnit.MILLISECONDS);
+                }
+                List<LookupService> check = new ArrayList<LookupService>();
+                synchronized (DatabaseWatcher.class) {
+                    for (Path dir : changed) {
+                        List<LookupService> list = services.get(dir);
+                        if (list != null) {
+                            check.addAll(list);
+                        }
+                    }
+                }
+                // reload outside the lock, loading a database takes a while
+                for (LookupService service : check) {
+                    try {
+                        service._check_mtime();
+                    }
+                    catch (RuntimeException e) {
+                        // keep watching the other databases
+                        e.printStackTrace();
+                    }
+                }
+            }
+        }
+        catch (ClosedWatchServiceException e) { }
+        catch (InterruptedException e) { }
+    }
+}
@@ -0,0 +1,114 @@
+package com.maxmind.geoip;
+
+import java.util.Arrays;
+
+/**
+ * A two level direct index over the IPv4 search tree of a country database,
+ * in the style of DIR-24-8. The first level has one entry per /24 network,
+ * networks that are split further point to a block of 256 entries in the
+ * second level. A lookup takes one or two array reads.<p>
+ *
+ * Each entry holds the netmask of the matching network in bits 8-13 and the
+ * country offset from COUNTRY_BEGIN in bits 0-7. First level entries of
+ * OVERFLOW and above hold the number of a second level block instead.
+ *
+ * @see com.maxmind.geoip.LookupService#GEOIP_DIRECT_INDEX
+ */
+final class DirectIndex {
+
+    private final static int OVERFLOW = 0x4000;
+    private final static int MAX_BLOCKS = 0x10000 - OVERFLOW;
+
+    private final char first[] = new char[1 << 24];
+    private char overflow[] = new char[256 * 1024];
+    private int blocks = 0;
+    private final int segment;
+
+    private DirectIndex(int segment) {
+        this.segment = segment;
+    }
+
+    /**
+     * Expands a search tree into a direct index.
+     *
+     * @param tree the search tree as decoded by GEOIP_TREE_CACHE.
+     * @param segment the first value that is a leaf rather than a node.
+     * @return the index, or null if the tree has more networks longer than
+     *      /24 or values larger than a byte than the index can hold.
+     */
+    static DirectIndex build(int tree[], int segment) {
+        DirectIndex index = new DirectIndex(segment);
+        if (!index.walk(tree, 0, 0, 0, -1)) {
+            return null;
+        }
+        index.overflow = Arrays.copyOf(index.overflow, index.blocks * 256);
+        return index;
+    }
+
+    /**
+     * Fills in the entries below a node.
+     *
+     * @param tree the search tree.
+     * @param node the node to expand.
+     * @param depth the number of address bits leading to the node.
+     * @param prefix those address bits.
+     * @param block the second level block for nodes deeper than /24.
+     * @return false if the index can not hold the tree.
+     */
+    private boolean walk(int tree[], int node, int depth, int prefix, int block) {
+        for (int bit = 0; bit < 2; bit++) {
+            int x = tree[(node << 1) | bit];
+            int d = depth + 1;
+            int p = (prefix << 1) | bit;
+            if (x >= segment || d == 32) {
+                // a malformed tree reaching /32 is treated as unknown
+                int value = x >= segment ? x - segment : 0;
+                if (value > 0xFF) {
+                    return false;
+                }
+                char leaf = (char) ((d << 8) | value);
+                if (d <= 24) {
+                    Arrays.fill(first, p << (24 - d), (p + 1) << (24 - d), leaf);
+                } else {
+                    int start = (block << 8) | ((p & ((1 << (d - 24)) - 1)) << (32 - d));
+                    Arrays.fill(overflow, start, start + (1 << (32 - d)), leaf);
+                }
+            } else if (d == 24) {
+                if (blocks == MAX_BLOCKS) {
+                    return false;
+                }
+                if ((blocks + 1) * 256 > overflow.length) {
+                    overflow = Arrays.copyOf(overflow, overflow.length * 2);
+                }
+                first[p] = (char) (OVERFLOW + blocks);
+                if (!walk(tree, x, d, p, blocks++)) {
+                    return false;
+                }
+            } else if (!walk(tree, x, d, p, block)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Looks up an address.
+     *
+     * @param ipAddress the IPv4 address.
+     * @return the netmask in bits 8-13 and the country offset in bits 0-7.
+     */
+    int lookup(int ipAddress) {
+        int entry = first[ipAddress >>> 8];
+        if (entry >= OVERFLOW) {
+            entry = overflow[((entry - OVERFLOW) << 8) | (ipAddress & 0xFF)];
+        }
+        return entry;
+    }
+
+    /**
+     * Returns the memory used by the index in bytes.
+     */
+    long memoryUsage() {
+        return 2L * (first.length + overflow.length);
+    }
+}
@@ -36,6 +36,10 @@ public class Location {
     private final static double PI = 3.14159265;
     private final static double RAD_CONVERT = PI / 180;
 
+    /**
+     * Returns the great-circle distance to another location in km. Use
+     * Coordinates to compare many locations with each other.
+     */
     public double distance (Location loc) {
         double delta_lat, delta_lon;
         double temp;
@@ -54,7 +58,9 @@ public class Location {
         delta_lon = (lon2 - lon1) * RAD_CONVERT;
 
         // Find the great circle distance
-        temp = Math.pow(Math.sin(delta_lat/2),2) + Math.cos(lat1) * Math.cos(lat2) * Math.pow(Math.sin(delta_lon/2),2);
+        double sin_lat = Math.sin(delta_lat/2);
+        double sin_lon = Math.sin(delta_lon/2);
+        temp = sin_lat * sin_lat + Math.cos(lat1) * Math.cos(lat2) * sin_lon * sin_lon;
         return EARTH_DIAMETER * Math.atan2(Math.sqrt(temp),Math.sqrt(1-temp));
     }
 }
@@ -0,0 +1,228 @@
+package com.maxmind.geoip;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A city record that is decoded field by field when the fields are read,
+ * instead of all at once like Location. Reading the coordinates or the
+ * country decodes no strings at all.<p>
+ *
+ * A view returned by LookupService.getLocationView(long) stays bound to its
+ * record. For tight loops a single view can be passed to
+ * getLocationView(long, LocationView) over and over, which binds it to the
+ * next record without allocating:
+ * <pre>
+ * LocationView view = new LocationView();
+ * for (long ip : addresses) {
+ *     if (cityLookup.getLocationView(ip, view)) {
+ *         sum += view.getLatitude();
+ *     }
+ * }</pre>
+ *
+ * Records kept on the heap or in a mapping are read in place, all others
+ * are copied into the view. Views are not safe for use by several threads
+ * while they are being rebound.
+ *
+ * @see com.maxmind.geoip.LookupService#getLocationView(long)
+ */
+public class LocationView {
+
+    private ByteBuffer buf = null;
+    private int pos;
+    private boolean rev1;
+
+    // offset of the latitude, found on first use
+    private int coordinates = -1;
+
+    // records that can not be read in place are copied here
+    private byte [] copy = null;
+    private ByteBuffer copyBuffer = null;
+
+    /**
+     * Creates a view that is not bound to a record yet. Pass it to
+     * LookupService.getLocationView(long, LocationView) to bind it.
+     */
+    public LocationView() {
+    }
+
+    void bind(ByteBuffer buf, int pos, boolean rev1) {
+        this.buf = buf;
+        this.pos = pos;
+        this.rev1 = rev1;
+        coordinates = -1;
+    }
+
+    void unbind() {
+        buf = null;
+    }
+
+    /**
+     * Returns the array backed buffer records are copied into.
+     */
+    ByteBuffer copyBuffer(int length) {
+        if (copy == null) {
+            copy = new byte[length];
+            copyBuffer = ByteBuffer.wrap(copy);
+        }
+        return copyBuffer;
+    }
+
+    private ByteBuffer record() {
+        if (buf == null) {
+            throw new IllegalStateException("The view is not bound to a record.");
+        }
+        return buf;
+    }
+
+    /**
+     * Returns true if the view is bound to a record.
+     */
+    public boolean isBound() {
+        return buf != null;
+    }
+
+    /**
+     * Returns the country id of the record.
+     */
+    public int getCountryId() {
+        return record().get(pos) & 0xFF;
+    }
+
+    /**
+     * Returns the country of the record, one of the shared instances.
+     */
+    public Country getCountry() {
+        return LookupService.getCountryById(getCountryId());
+    }
+
+    /**
+     * Returns the ISO two-letter country code of the record.
+     */
+    public String getCountryCode() {
+        return getCountry().getCode();
+    }
+
+    /**
+     * Returns the country name of the record.
+     */
+    public String getCountryName() {
+        return getCountry().getName();
+    }
+
+    /**
+     * Returns the region code of the record.
+     *
+     * @return the region, or null if the record has none.
+     */
+    public String getRegion() {
+        return string(pos + 1);
+    }
+
+    /**
+     * Returns the city name of the record.
+     *
+     * @return the city, or null if the record has none.
+     */
+    public String getCity() {
+        ByteBuffer b = record();
+        int p = pos + 1;
+        return string(p + LookupService.stringLength(b, p) + 1);
+    }
+
+    /**
+     * Returns the postal code of the record.
+     *
+     * @return the postal code, or null if the record has none.
+     */
+    public String getPostalCode() {
+        ByteBuffer b = record();
+        int p = pos + 1;
+        p += LookupService.stringLength(b, p) + 1;
+        p += LookupService.stringLength(b, p) + 1;
+        return string(p);
+    }
+
+    private String string(int p) {
+        ByteBuffer b = record();
+        int length = LookupService.stringLength(b, p);
+        return length > 0 ? LookupService.readString(b, p, length) : null;
+    }
+
+    private int coordinates() {
+        if (coordinates < 0) {
+            ByteBuffer b = record();
+            int p = pos + 1;
+            for (int i = 0; i < 3; i++) {
+                p += LookupService.stringLength(b, p) + 1;
+            }
+            coordinates = p;
+        }
+        return coordinates;
+    }
+
+    /**
+     * Returns the latitude of the record in degrees.
+     */
+    public float getLatitude() {
+        return (float) LookupService.readRecord(record(), coordinates(), 3) / 10000 - 180;
+    }
+
+    /**
+     * Returns the longitude of the record in degrees.
+     */
+    public float getLongitude() {
+        return (float) LookupService.readRecord(record(), coordinates() + 3, 3) / 10000 - 180;
+    }
+
+    private int metroAreaCombo() {
+        if (!rev1 || !"US".equals(getCountryCode())) {
+            return 0;
+        }
+        return LookupService.readRecord(record(), coordinates() + 6, 3);
+    }
+
+    /**
+     * Returns the DMA code of a US record of a revision 1 city database.
+     *
+     * @return the DMA code, or 0.
+     */
+    public int getDmaCode() {
+        return metroAreaCombo() / 1000;
+    }
+
+    /**
+     * Returns the metro code of the record, the same as the DMA code.
+     *
+     * @return the metro code, or 0.
+     */
+    public int getMetroCode() {
+        return getDmaCode();
+    }
+
+    /**
+     * Returns the area code of a US record of a revision 1 city database.
+     *
+     * @return the area code, or 0.
+     */
+    public int getAreaCode() {
+        return metroAreaCombo() % 1000;
+    }
+
+    /**
+     * Decodes every field of the record into a new Location, as
+     * LookupService.getLocation() would return it.
+     */
+    public Location toLocation() {
+        Location record = new Location();
+        record.countryCode = getCountryCode();
+        record.countryName = getCountryName();
+        record.region = getRegion();
+        record.city = getCity();
+        record.postalCode = getPostalCode();
+        record.latitude = getLatitude();
+        record.longitude = getLongitude();
+        record.metro_code = record.dma_code = getDmaCode();
+        record.area_code = getAreaCode();
+        return record;
+    }
+}
@@ -20,15 +20,27 @@
 
 package com.maxmind.geoip;
 
+import java.io.EOFException;
 import java.io.File;
 import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
 import java.net.InetAddress;
 import java.net.Inet6Address;
 import java.net.UnknownHostException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Hashtable;
 import java.util.StringTokenizer;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
 
 import javax.naming.NamingException;
 import javax.naming.directory.Attributes;
@@ -77,6 +89,13 @@ public class LookupService {
     private RandomAccessFile file = null;
     private File databaseFile = null;
 
+    /**
+     * Channel of the database file, read with positional reads by disk
+     * lookups. These do not move the file pointer, so lookups on several
+     * threads may read at once.
+     */
+    private volatile FileChannel channel = null;
+
     /**
      * Information about the database.
      */
@@ -95,8 +114,109 @@ public class LookupService {
     int dboptions;
     byte dbbuffer[];
     byte index_cache[];
+
+    /**
+     * The database file mapped into memory, used instead of dbbuffer with
+     * GEOIP_MMAP_CACHE, or copied into direct memory with
+     * GEOIP_OFFHEAP_CACHE.
+     */
+    ByteBuffer dbview;
+
+    /**
+     * The search tree copied into direct memory, used instead of
+     * index_cache with GEOIP_OFFHEAP_CACHE and GEOIP_INDEX_CACHE.
+     */
+    ByteBuffer indexview;
+
+    /**
+     * The buffer search tree walks read from when neither dbbuffer nor
+     * index_cache is loaded, indexview or dbview.
+     */
+    ByteBuffer treeview;
+
+    /**
+     * The buffer records are decoded from, dbview or dbbuffer wrapped, null
+     * if records are read from disk.
+     */
+    ByteBuffer recordview;
+
+    /**
+     * The search tree decoded into left/right child pointers, used with
+     * GEOIP_TREE_CACHE. Node n has its children at 2n and 2n + 1.
+     */
+    int tree[];
+
+    /**
+     * Direct index over the IPv4 search tree, used with GEOIP_DIRECT_INDEX.
+     */
+    DirectIndex directIndex;
+
+    /**
+     * The search tree flattened into address ranges, used with
+     * GEOIP_RANGE_TABLE.
+     */
+    RangeTable rangeTable;
+
+    /**
+     * Multi-bit trie over the IPv6 search tree, used with GEOIP_STRIDE_TRIE,
+     * and the strides it was built with, null for the default.
+     */
+    StrideTrie strideTrie;
+    int strides[];
+
+    /**
+     * Every record of a city database decoded into columns, used with
+     * GEOIP_COLUMNAR_CACHE.
+     */
+    CityColumns columns;
+
+    /**
+     * Cache of record area pages read from disk, used with GEOIP_PAGE_CACHE,
+     * and the number of pages it was configured with, 0 for the default.
+     */
+    private volatile PageCache pageCache;
+    private int pageCacheSize = 0;
+
+    /**
+     * Memo of decoded records used by getCityRecord() on city databases and
+     * by getOrg() and getOrganization() on org, ISP and ASN databases, and
+     * the number of records it was configured with, 0 for the default.
+     */
+    private volatile RecordMemo<CityRecord> cityMemo;
+    private volatile RecordMemo<Organization> orgMemo;
+    private int recordMemoSize = 0;
+
+    /**
+     * Time spent building the lookup structures, in milliseconds.
+     */
+    private long indexBuildTime;
     long mtime;
-    int last_netmask;
+
+    // With GEOIP_CHECK_CACHE, the copy of the database file that lookups are
+    // forwarded to, otherwise this instance. A copy counts the lookups in
+    // flight on it, so a replaced copy is closed only once they are done.
+    private volatile LookupService current = this;
+    private final LongAdder readers = new LongAdder();
+    private volatile boolean watched = false;
+
+    /**
+     * True when the search tree is walked in memory rather than read from
+     * the file, for IPv4 and IPv6 addresses. The direct index and a range
+     * table only answer addresses of their own width.
+     */
+    private boolean treeInMemory;
+    private boolean treeInMemoryV6;
+
+    /**
+     * Netmask of the last lookup, kept per thread since lookups may run in
+     * parallel.
+     */
+    private final ThreadLocal<int[]> last_netmask = new ThreadLocal<int[]>() {
+        @Override
+        protected int[] initialValue() {
+            return new int[1];
+        }
+    };
     private final static int US_OFFSET = 1;
     private final static int CANADA_OFFSET = 677;
     private final static int WORLD_OFFSET = 1353;
@@ -110,6 +230,15 @@ public class LookupService {
     public final static int GEOIP_MEMORY_CACHE = 1;
     public final static int GEOIP_CHECK_CACHE = 2;
     public final static int GEOIP_INDEX_CACHE = 4;
+    public final static int GEOIP_MMAP_CACHE = 8;
+    public final static int GEOIP_MMAP_PRELOAD = 16;
+    public final static int GEOIP_TREE_CACHE = 32;
+    public final static int GEOIP_DIRECT_INDEX = 64;
+    public final static int GEOIP_RANGE_TABLE = 128;
+    public final static int GEOIP_STRIDE_TRIE = 256;
+    public final static int GEOIP_OFFHEAP_CACHE = 512;
+    public final static int GEOIP_PAGE_CACHE = 1024;
+    public final static int GEOIP_COLUMNAR_CACHE = 2048;
     public final static int GEOIP_UNKNOWN_SPEED = 0;
     public final static int GEOIP_DIALUP_SPEED = 1;
     public final static int GEOIP_CABLEDSL_SPEED = 2;
@@ -123,8 +252,7 @@ public class LookupService {
 
     private final static int MAX_ORG_RECORD_LENGTH = 300;
     private final static int FULL_RECORD_LENGTH = 60;
-
-    private final Country UNKNOWN_COUNTRY = new Country("--", "N/A");
+    private final static Charset ISO_8859_1 = Charset.forName("ISO-8859-1");
 
     private static final HashMap hashmapcountryCodetoindex = new HashMap(512);
     private static final HashMap hashmapcountryNametoindex = new HashMap(512);
@@ -202,6 +330,11 @@ public class LookupService {
 	"Satellite Provider","Other","Aland Islands","Guernsey","Isle of Man","Jersey",
 	"Saint Barthelemy","Saint Martin"};
 
+    /* one shared instance per country, indexed by country id */
+    private static final Country[] countries = new Country[countryCode.length];
+
+    private static final Country UNKNOWN_COUNTRY;
+
 
     /* init the hashmap once at startup time */
     static {
@@ -213,7 +346,9 @@ public class LookupService {
         for (i = 0; i < countryCode.length ;i++){
             hashmapcountryCodetoindex.put(countryCode[i],Integer.valueOf(i));
             hashmapcountryNametoindex.put(countryName[i],Integer.valueOf(i));
+            countries[i] = new Country(countryCode[i], countryName[i]);
         }
+        UNKNOWN_COUNTRY = countries[0];
     };
 
 
@@ -271,6 +406,7 @@ public class LookupService {
     public LookupService(File databaseFile) throws IOException {
         this.databaseFile = databaseFile;
         this.file = new RandomAccessFile(databaseFile, "r");
+        this.channel = file.getChannel();
         init();
     }
 
@@ -279,8 +415,36 @@ public class LookupService {
      *
      * @param databaseFile String representation of the database file.
      * @param options database flags to use when opening the database
-     * GEOIP_STANDARD read database from disk
-     * GEOIP_MEMORY_CACHE cache the database in RAM and read it from RAM
+     * GEOIP_STANDARD read database from disk with positional reads, lookups
+     * may run concurrently without locking
+     * GEOIP_MEMORY_CACHE cache the database in RAM and read it from RAM,
+     * lookups may run concurrently without locking
+     * GEOIP_CHECK_CACHE watch the database file and load it again in the
+     * background when it changes, lookups move to the new copy once loaded
+     * GEOIP_MMAP_CACHE map the database file into memory and read it from the
+     * mapping, lookups may run concurrently without locking; combined with
+     * GEOIP_INDEX_CACHE only the record area is read from the mapping
+     * GEOIP_MMAP_PRELOAD with GEOIP_MMAP_CACHE, page the mapping in while
+     * opening the database
+     * GEOIP_TREE_CACHE decode the search tree into an int array while opening
+     * the database and walk that instead of the raw records
+     * GEOIP_DIRECT_INDEX expand the search tree of a country, proxy or
+     * netspeed database into a direct index of about 32MB, IPv4 lookups then
+     * take one or two array reads
+     * GEOIP_RANGE_TABLE flatten the search tree into a sorted table of
+     * address ranges and binary search that instead of walking the tree
+     * GEOIP_STRIDE_TRIE expand the search tree of an IPv6 country database
+     * into a multi-bit trie, see compileStrideTrie
+     * GEOIP_OFFHEAP_CACHE like GEOIP_MEMORY_CACHE, but keep the database in
+     * direct memory outside the heap, which close() frees right away, so
+     * no lookups may be in flight then; combined with GEOIP_INDEX_CACHE only
+     * the search tree is kept there
+     * GEOIP_PAGE_CACHE when the records of a city or org database are read
+     * from disk, keep the pages read most often in a bounded cache, see
+     * setPageCacheSize
+     * GEOIP_COLUMNAR_CACHE decode every record of a city database into
+     * arrays while opening it, using all processors, so location lookups
+     * read arrays instead of parsing records
      * @throws java.io.IOException if an error occured creating the lookup service
      *      from the database file.
      */
@@ -293,15 +457,52 @@ public class LookupService {
      *
      * @param databaseFile the database file.
      * @param options database flags to use when opening the database
-     * GEOIP_STANDARD read database from disk
-     * GEOIP_MEMORY_CACHE cache the database in RAM and read it from RAM
+     * GEOIP_STANDARD read database from disk with positional reads, lookups
+     * may run concurrently without locking
+     * GEOIP_MEMORY_CACHE cache the database in RAM and read it from RAM,
+     * lookups may run concurrently without locking
+     * GEOIP_CHECK_CACHE watch the database file and load it again in the
+     * background when it changes, lookups move to the new copy once loaded
+     * GEOIP_MMAP_CACHE map the database file into memory and read it from the
+     * mapping, lookups may run concurrently without locking; combined with
+     * GEOIP_INDEX_CACHE only the record area is read from the mapping
+     * GEOIP_MMAP_PRELOAD with GEOIP_MMAP_CACHE, page the mapping in while
+     * opening the database
+     * GEOIP_TREE_CACHE decode the search tree into an int array while opening
+     * the database and walk that instead of the raw records
+     * GEOIP_DIRECT_INDEX expand the search tree of a country, proxy or
+     * netspeed database into a direct index of about 32MB, IPv4 lookups then
+     * take one or two array reads
+     * GEOIP_RANGE_TABLE flatten the search tree into a sorted table of
+     * address ranges and binary search that instead of walking the tree
+     * GEOIP_STRIDE_TRIE expand the search tree of an IPv6 country database
+     * into a multi-bit trie, see compileStrideTrie
+     * GEOIP_OFFHEAP_CACHE like GEOIP_MEMORY_CACHE, but keep the database in
+     * direct memory outside the heap, which close() frees right away, so
+     * no lookups may be in flight then; combined with GEOIP_INDEX_CACHE only
+     * the search tree is kept there
+     * GEOIP_PAGE_CACHE when the records of a city or org database are read
+     * from disk, keep the pages read most often in a bounded cache, see
+     * setPageCacheSize
+     * GEOIP_COLUMNAR_CACHE decode every record of a city database into
+     * arrays while opening it, using all processors, so location lookups
+     * read arrays instead of parsing records
      * @throws java.io.IOException if an error occured creating the lookup service
      *      from the database file.
      */
     public LookupService(File databaseFile, int options) throws IOException{
         this.databaseFile = databaseFile;
-	this.file = new RandomAccessFile(databaseFile, "r");
 	dboptions = options;
+        if ((dboptions & GEOIP_CHECK_CACHE) != 0) {
+            // this instance only forwards to a copy, swapped on changes
+            mtime = databaseFile.lastModified();
+            current = new LookupService(databaseFile, options & ~GEOIP_CHECK_CACHE);
+            DatabaseWatcher.register(this, databaseFile);
+            watched = true;
+            return;
+        }
+	this.file = new RandomAccessFile(databaseFile, "r");
+        this.channel = file.getChannel();
 	init();
     }
     /**
@@ -317,9 +518,6 @@ public class LookupService {
 	if (file == null) {
           return;
 	}
-	if ((dboptions & GEOIP_CHECK_CACHE) != 0) {
-            mtime = databaseFile.lastModified();
-	}
 	file.seek(file.length() - 3);
         for (i = 0; i < STRUCTURE_INFO_MAX_SIZE; i++) {
             file.readFully(delim);
@@ -373,15 +571,28 @@ public class LookupService {
             databaseSegments[0] = COUNTRY_BEGIN;
             recordLength = STANDARD_RECORD_LENGTH;
         }
+        long size = file.length();
+        if (hasRecords() && (long) databaseSegments[0] * recordLength * 2 > size) {
+            throw new EOFException("The search tree extends past the end of the file");
+        }
+        boolean offheap = (dboptions & GEOIP_OFFHEAP_CACHE) != 0;
+        if (offheap) {
+            // the direct copy takes the place of the memory cache
+            dboptions &= ~GEOIP_MEMORY_CACHE;
+        }
+        indexview = null;
         if ((dboptions & GEOIP_MEMORY_CACHE) == 1) {
-	    int l = (int) file.length();
+	    int l = (int) size;
 	    dbbuffer = new byte[l];
 	    file.seek(0);
 	    file.readFully(dbbuffer,0,l);
-	    databaseInfo = this.getDatabaseInfo();
+	    databaseInfo = readDatabaseInfo();
 	    file.close();
 	}
-        if ((dboptions & GEOIP_INDEX_CACHE) != 0) {
+        if ((dboptions & GEOIP_INDEX_CACHE) != 0 && offheap) {
+          index_cache = null;
+          indexview = readDirect((int) Math.min((long) databaseSegments[0] * recordLength * 2, size));
+        } else if ((dboptions & GEOIP_INDEX_CACHE) != 0) {
           int l = databaseSegments[0] * recordLength * 2;
           index_cache = new byte[l];
           if (index_cache != null){
@@ -391,21 +602,424 @@ public class LookupService {
         } else {
           index_cache = null;
         }
+        if (offheap && indexview == null) {
+            dbview = readDirect((int) size);
+            databaseInfo = readDatabaseInfo();
+            file.close();
+        } else if ((dboptions & GEOIP_MMAP_CACHE) != 0 && dbbuffer == null) {
+            // The mapping stays valid after the file has been closed.
+            MappedByteBuffer map = file.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, size);
+            map.order(ByteOrder.LITTLE_ENDIAN);
+            if ((dboptions & GEOIP_MMAP_PRELOAD) != 0) {
+                map.load();
+            }
+            dbview = map;
+            databaseInfo = readDatabaseInfo();
+            file.close();
+        } else {
+            dbview = null;
+        }
+        treeview = indexview != null ? indexview : dbview;
+        recordview = dbbuffer != null ? ByteBuffer.wrap(dbbuffer) : dbview;
+        long start = System.currentTimeMillis();
+        boolean directIndexable = (dboptions & GEOIP_DIRECT_INDEX) != 0 &&
+            (databaseType == DatabaseInfo.COUNTRY_EDITION ||
+             databaseType == DatabaseInfo.PROXY_EDITION ||
+             databaseType == DatabaseInfo.NETSPEED_EDITION);
+        boolean strideTrieable = (dboptions & GEOIP_STRIDE_TRIE) != 0 &&
+            databaseType == DatabaseInfo.COUNTRY_EDITION_V6;
+        if ((dboptions & (GEOIP_TREE_CACHE | GEOIP_RANGE_TABLE)) != 0 ||
+            directIndexable || strideTrieable) {
+            tree = decodeTree(size);
+        } else {
+            tree = null;
+        }
+        directIndex = null;
+        if (directIndexable) {
+            directIndex = DirectIndex.build(tree, databaseSegments[0]);
+            if (directIndex == null) {
+                System.err.println("Database does not fit into a direct index");
+            }
+        }
+        rangeTable = null;
+        if ((dboptions & GEOIP_RANGE_TABLE) != 0) {
+            int width = databaseType == DatabaseInfo.COUNTRY_EDITION_V6 ? 128 : 32;
+            rangeTable = RangeTable.build(tree, databaseSegments[0], width);
+        }
+        strideTrie = null;
+        if (strideTrieable) {
+            strideTrie = StrideTrie.build(tree, databaseSegments[0],
+                strides != null ? strides : StrideTrie.DEFAULT_STRIDES);
+        }
+        columns = null;
+        if ((dboptions & GEOIP_COLUMNAR_CACHE) != 0 && isCity()) {
+            int [] nodes = tree != null ? tree : decodeTree(size);
+            ByteBuffer records = recordview;
+            if (records == null) {
+                byte [] bytes = new byte[(int) size];
+                readAt(bytes, bytes.length, 0);
+                records = ByteBuffer.wrap(bytes);
+            }
+            // the columns rewrite the leaves, which only GEOIP_TREE_CACHE
+            // still needs afterwards
+            columns = CityColumns.build(nodes, nodes == tree && (dboptions & GEOIP_TREE_CACHE) != 0,
+                databaseSegments[0], records, 2 * recordLength * databaseSegments[0],
+                databaseType == DatabaseInfo.CITY_EDITION_REV1);
+        }
+        if ((dboptions & GEOIP_TREE_CACHE) == 0) {
+            tree = null;
+        }
+        indexBuildTime = System.currentTimeMillis() - start;
+        boolean walkable = dbbuffer != null || index_cache != null || treeview != null || tree != null;
+        treeInMemory = walkable || directIndex != null ||
+            (rangeTable != null && rangeTable.getWidth() == 32);
+        treeInMemoryV6 = walkable || strideTrie != null ||
+            (rangeTable != null && rangeTable.getWidth() == 128);
+        pageCache = null;
+        if ((dboptions & GEOIP_PAGE_CACHE) != 0 && recordview == null && hasRecords()) {
+            pageCache = new PageCache(pageCacheSize > 0 ? pageCacheSize : PageCache.DEFAULT_PAGES);
+        }
+        cityMemo = isCity() ? new RecordMemo<CityRecord>(RecordMemo.DEFAULT_SIZE) : null;
+        orgMemo = hasRecords() && !isCity() ? new RecordMemo<Organization>(RecordMemo.DEFAULT_SIZE) : null;
      }
 
+    private boolean isCity() {
+        return databaseType == DatabaseInfo.CITY_EDITION_REV0 ||
+            databaseType == DatabaseInfo.CITY_EDITION_REV1;
+    }
+
+    /**
+     * Returns true if the search tree leads to records stored after it,
+     * rather than encoding the result in the tree itself.
+     */
+    private boolean hasRecords() {
+        return databaseType == DatabaseInfo.CITY_EDITION_REV0 ||
+            databaseType == DatabaseInfo.CITY_EDITION_REV1 ||
+            databaseType == DatabaseInfo.ORG_EDITION ||
+            databaseType == DatabaseInfo.ISP_EDITION ||
+            databaseType == DatabaseInfo.ASNUM_EDITION;
+    }
+
+    /**
+     * Decodes the search tree from the memory cache, the index cache, the
+     * mapping or the file, whichever is available.
+     *
+     * @param size the size of the database file.
+     * @return the child pointers, two per node.
+     */
+    private int[] decodeTree(long size) throws IOException {
+        // Country style databases store COUNTRY_BEGIN or STATE_BEGIN in
+        // databaseSegments rather than the number of nodes.
+        int nodes = (int) Math.min(databaseSegments[0], size / (2 * recordLength));
+        ByteBuffer source;
+        if (dbbuffer != null) {
+            source = ByteBuffer.wrap(dbbuffer);
+        } else if (index_cache != null) {
+            source = ByteBuffer.wrap(index_cache);
+        } else if (treeview != null) {
+            source = treeview;
+        } else {
+            byte [] bytes = new byte[nodes * 2 * recordLength];
+            file.seek(0);
+            file.readFully(bytes);
+            source = ByteBuffer.wrap(bytes);
+        }
+        return compileTree(source, nodes, recordLength);
+    }
+
+    /**
+     * Decodes the search tree records into a flat array of child pointers.
+     *
+     * @param buf the buffer holding the search tree.
+     * @param nodes the number of nodes to decode.
+     * @param length the record length, 3 or 4 bytes.
+     * @return the child pointers, two per node.
+     */
+    private static int[] compileTree(ByteBuffer buf, int nodes, int length) {
+        int [] tree = new int[2 * nodes];
+        for (int i = 0; i < tree.length; i++) {
+            tree[i] = readRecord(buf, i * length, length);
+        }
+        return tree;
+    }
+
+    /**
+     * Returns the heap memory taken by the lookup structures built while
+     * opening the database with GEOIP_TREE_CACHE, GEOIP_DIRECT_INDEX,
+     * GEOIP_RANGE_TABLE, GEOIP_STRIDE_TRIE or GEOIP_COLUMNAR_CACHE.
+     *
+     * @return the memory used in bytes.
+     */
+    public long getIndexMemoryUsage() {
+        if (current != this) {
+            LookupService db = acquire();
+            try {
+                return db.getIndexMemoryUsage();
+            }
+            finally {
+                release(db);
+            }
+        }
+        long usage = 0;
+        if (tree != null) {
+            usage += 4L * tree.length;
+        }
+        if (directIndex != null) {
+            usage += directIndex.memoryUsage();
+        }
+        if (rangeTable != null) {
+            usage += rangeTable.memoryUsage();
+        }
+        if (strideTrie != null) {
+            usage += strideTrie.memoryUsage();
+        }
+        if (columns != null) {
+            usage += columns.memoryUsage();
+        }
+        return usage;
+    }
+
+    /**
+     * Returns the time taken to build the lookup structures while opening
+     * the database with GEOIP_TREE_CACHE, GEOIP_DIRECT_INDEX,
+     * GEOIP_RANGE_TABLE or GEOIP_STRIDE_TRIE.
+     *
+     * @return the build time in milliseconds.
+     */
+    public long getIndexBuildTime() {
+        if (current != this) {
+            LookupService db = acquire();
+            try {
+                return db.getIndexBuildTime();
+            }
+            finally {
+                release(db);
+            }
+        }
+        return indexBuildTime;
+    }
+
+    /**
+     * Rebuilds the IPv6 multi-bit trie with different strides. Each level of
+     * the trie consumes the number of address bits given by its stride, from
+     * 1 to 24, and the strides must add up to 128. Wide strides make lookups
+     * take fewer reads but expand each network into more entries. The
+     * default is a 16 bit first level followed by 8 bit levels.
+     *
+     * @param strides the bits consumed by each level.
+     * @throws java.io.IOException if the search tree can not be read.
+     * @throws IllegalArgumentException if the strides are invalid.
+     * @throws IllegalStateException if this is not an IPv6 country database.
+     */
+    public synchronized void compileStrideTrie(int [] strides) throws IOException {
+        StrideTrie.checkStrides(strides);
+        if (current != this) {
+            LookupService db = acquire();
+            try {
+                // reloads build the new copy with these strides as well
+                this.strides = strides.clone();
+                db.compileStrideTrie(strides);
+                return;
+            }
+            finally {
+                release(db);
+            }
+        }
+        if (databaseType != DatabaseInfo.COUNTRY_EDITION_V6) {
+            throw new IllegalStateException("Stride tries need an IPv6 country database.");
+        }
+        long start = System.currentTimeMillis();
+        long size = dbbuffer != null ? dbbuffer.length : (dbview != null ? dbview.limit() : file.length());
+        int [] nodes = tree != null ? tree : decodeTree(size);
+        this.strides = strides.clone();
+        strideTrie = StrideTrie.build(nodes, databaseSegments[0], this.strides);
+        dboptions |= GEOIP_STRIDE_TRIE;
+        indexBuildTime = System.currentTimeMillis() - start;
+        treeInMemoryV6 = true;
+    }
+
     /**
-     * Closes the lookup service.
+     * Sets the number of 4KB pages of the record area kept in memory and
+     * turns on GEOIP_PAGE_CACHE. The cache starts out empty. It is only
+     * used while the records of a city or org database are read from disk.
+     *
+     * @param pages the number of pages, 0 to turn the cache off.
+     */
+    public synchronized void setPageCacheSize(int pages) {
+        if (pages < 0) {
+            throw new IllegalArgumentException("The page cache size must not be negative");
+        }
+        if (current != this) {
+            LookupService db = acquire();
+            try {
+                // reloads use this size as well
+                pageCacheSize = pages;
+                dboptions = pages > 0 ? dboptions | GEOIP_PAGE_CACHE : dboptions & ~GEOIP_PAGE_CACHE;
+                db.setPageCacheSize(pages);
+                return;
+            }
+            finally {
+                release(db);
+            }
+        }
+        pageCacheSize = pages;
+        if (pages == 0) {
+            dboptions &= ~GEOIP_PAGE_CACHE;
+            pageCache = null;
+            return;
+        }
+        dboptions |= GEOIP_PAGE_CACHE;
+        pageCache = recordview == null && hasRecords() ? new PageCache(pages) : null;
+    }
+
+    /**
+     * Returns the cache of record area pages, available when the database
+     * was opened with GEOIP_PAGE_CACHE and its records are read from disk.
+     * Its hit rate shows how well the configured size fits the lookups.
+     *
+     * @return the page cache, or null.
+     */
+    public PageCache getPageCache() {
+        if (current != this) {
+            LookupService db = acquire();
+            try {
+                return db.getPageCache();
+            }
+            finally {
+                release(db);
+            }
+        }
+        return pageCache;
+    }
+
+    /**
+     * Sets the number of decoded records the memo of getCityRecord(), or of
+     * getOrganization() and getOrg(), holds. The memo starts out empty.
+     *
+     * @param size the number of records, rounded up to a power of two, 0
+     *      to turn the memo off.
+     */
+    public synchronized void setRecordMemoSize(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("The record memo size must not be negative");
+        }
+        // -1 remembers that the memo was turned off, for reloads
+        recordMemoSize = size > 0 ? size : -1;
+        if (current != this) {
+            LookupService db = acquire();
+            try {
+                db.setRecordMemoSize(size);
+                return;
+            }
+            finally {
+                release(db);
+            }
+        }
+        cityMemo = size > 0 && isCity() ? new RecordMemo<CityRecord>(size) : null;
+        orgMemo = size > 0 && hasRecords() && !isCity() ? new RecordMemo<Organization>(size) : null;
+    }
+
+    /**
+     * Returns the memo of decoded records. It is there for city, org, ISP
+     * and ASN databases unless turned off with setRecordMemoSize(0).
+     *
+     * @return the memo, or null.
+     */
+    public RecordMemo<?> getRecordMemo() {
+        if (current != this) {
+            LookupService db = acquire();
+            try {
+                return db.getRecordMemo();
+            }
+            finally {
+                release(db);
+            }
+        }
+        return cityMemo != null ? cityMemo : orgMemo;
+    }
+
+    /**
+     * Returns the address ranges of the database, available when it was
+     * opened with GEOIP_RANGE_TABLE.
+     *
+     * @return the range table, or null.
+     */
+    public RangeTable getRangeTable() {
+        if (current != this) {
+            LookupService db = acquire();
+            try {
+                return db.getRangeTable();
+            }
+            finally {
+                release(db);
+            }
+        }
+        return rangeTable;
+    }
+
+    /**
+     * Closes the lookup service and frees the direct memory of
+     * GEOIP_OFFHEAP_CACHE. No lookups may be in flight on the service
+     * while it is closed.
      */
     public void close() {
+        synchronized (this) {
+            if (watched) {
+                watched = false;
+                DatabaseWatcher.unregister(this, databaseFile);
+                current.dispose();
+                current.freeDirect();
+            }
+        }
+        dispose();
+        freeDirect();
+    }
+
+    /**
+     * Returns the current copy of a database opened with GEOIP_CHECK_CACHE
+     * and registers as its reader. Must be followed by release().
+     */
+    private LookupService acquire() {
+        for (;;) {
+            LookupService db = current;
+            db.readers.increment();
+            // a copy replaced before we registered may already be closed
+            if (current == db) {
+                return db;
+            }
+            db.readers.decrement();
+        }
+    }
+
+    private static void release(LookupService db) {
+        db.readers.decrement();
+    }
+
+    private synchronized void dispose() {
 	try {
 	    if (file != null){
 		file.close();
 	    }
             file = null;
+            channel = null;
         }
         catch (Exception e) { }
     }
 
+    /**
+     * Frees the direct memory of GEOIP_OFFHEAP_CACHE. Only for services no
+     * lookup can reach anymore.
+     */
+    private synchronized void freeDirect() {
+        if ((dboptions & GEOIP_OFFHEAP_CACHE) != 0) {
+            ByteBuffer data = dbview;
+            ByteBuffer index = indexview;
+            dbview = indexview = treeview = recordview = null;
+            free(data);
+            free(index);
+        }
+    }
+
     /**
      * Returns the country the IP address is in.
      *
@@ -446,7 +1060,7 @@ public class LookupService {
      * @param ipAddress the IP address.
      * @return the country the IP address is from.
      */
-    public synchronized Country getCountry(InetAddress ipAddress) {
+    public Country getCountry(InetAddress ipAddress) {
         return getCountry(bytesToLong(ipAddress.getAddress()));
     }
 
@@ -457,16 +1071,42 @@ public class LookupService {
      * @return the country the IP address is from.
      */
     public Country getCountryV6(InetAddress addr) {
+        if (current != this) {
+            LookupService db = acquire();
+            try {
+                return db.getCountryV6(addr);
+            }
+            finally {
+                release(db);
+            }
+        }
         if (file == null && (dboptions & GEOIP_MEMORY_CACHE) == 0) {
             throw new IllegalStateException("Database has been closed.");
         }
-        int ret = seekCountryV6(addr) - COUNTRY_BEGIN;
-        if (ret == 0) {
-            return UNKNOWN_COUNTRY;
+        return countries[seekCountryV6(addr) - COUNTRY_BEGIN];
+    }
+
+    /**
+     * Returns the country the IP address is in.
+     *
+     * @param high the upper 64 bits of the IPv6 address.
+     * @param low the lower 64 bits of the IPv6 address.
+     * @return the country the IP address is from.
+     */
+    public Country getCountryV6(long high, long low) {
+        if (current != this) {
+            LookupService db = acquire();
+            try {
+                return db.getCountryV6(high, low);
+            }
+            finally {
+                release(db);
+            }
         }
-        else {
-            return new Country(countryCode[ret], countryName[ret]);
+        if (file == null && (dboptions & GEOIP_MEMORY_CACHE) == 0) {
+            throw new IllegalStateException("Database has been closed.");
         }
+        return countries[getCountryIdV6(high, low)];
     }
 
      /**
@@ -476,16 +1116,99 @@ public class LookupService {
      * @return the country the IP address is from.
      */
     public Country getCountry(long ipAddress) {
+        if (current != this) {
+            LookupService db = acquire();
+            try {
+                return db.getCountry(ipAddress);
+            }
+            finally {
+                release(db);
+            }
+        }
         if (file == null && (dboptions & GEOIP_MEMORY_CACHE) == 0) {
             throw new IllegalStateException("Database has been closed.");
         }
-        int ret = seekCountry(ipAddress) - COUNTRY_BEGIN;
-        if (ret == 0) {
-            return UNKNOWN_COUNTRY;
+        return countries[seekCountry(ipAddress) - COUNTRY_BEGIN];
+    }
+
+    /**
+     * Returns the id of the country an IPv4 address is in, without
+     * allocating. Use getCountryById() to turn it into a Country.
+     *
+     * @param ipAddress the address, as returned by InetAddress.hashCode().
+     * @return the country id, 0 if the country is unknown.
+     */
+    public short getCountryId(int ipAddress) {
+        if (current != this) {
+            LookupService db = acquire();
+            try {
+                return db.getCountryId(ipAddress);
+            }
+            finally {
+                release(db);
+            }
+        }
+        if (file == null && (dboptions & GEOIP_MEMORY_CACHE) == 0) {
+            throw new IllegalStateException("Database has been closed.");
+        }
+        return (short) (seekCountry(ipAddress & 0xFFFFFFFFL) - COUNTRY_BEGIN);
+    }
+
+    /**
+     * Returns the id of the country an IPv6 address is in, without
+     * allocating.
+     *
+     * @param high the upper 64 bits of the IPv6 address.
+     * @param low the lower 64 bits of the IPv6 address.
+     * @return the country id, 0 if the country is unknown.
+     */
+    public short getCountryIdV6(long high, long low) {
+        if (current != this) {
+            LookupService db = acquire();
+            try {
+                return db.getCountryIdV6(high, low);
+            }
+            finally {
+                release(db);
+            }
+        }
+        if (file == null && (dboptions & GEOIP_MEMORY_CACHE) == 0) {
+            throw new IllegalStateException("Database has been closed.");
         }
-        else {
-            return new Country(countryCode[ret], countryName[ret]);
+        return (short) (seekCountryV6(high, low) - COUNTRY_BEGIN);
+    }
+
+    /**
+     * Returns the shared Country instance for a country id.
+     *
+     * @param id the country id as returned by getCountryId() or getID() on a
+     *      country database.
+     * @return the country, or the unknown country if the id is out of range.
+     */
+    public static Country getCountryById(int id) {
+        if (id < 0 || id >= countries.length) {
+            return UNKNOWN_COUNTRY;
         }
+        return countries[id];
+    }
+
+    /**
+     * Returns the shared Country instance for an ISO two-letter country
+     * code, as found in Location.countryCode.
+     *
+     * @param code the country code.
+     * @return the country, or the unknown country if the code is unknown.
+     */
+    public static Country getCountryByCode(String code) {
+        Integer id = code != null ? (Integer) hashmapcountryCodetoindex.get(code) : null;
+        return id != null ? countries[id.intValue()] : UNKNOWN_COUNTRY;
+    }
+
+    /**
+     * Returns the number of country ids.
+     */
+    public static int getCountryCount() {
+        return countries.length;
     }
 
     public int getID(String ipAddress) {
@@ -503,20 +1226,211 @@ public class LookupService {
         return getID(bytesToLong(ipAddress.getAddress()));
     }
 
-    public synchronized int getID(long ipAddress) {
-        if (file == null && (dboptions & GEOIP_MEMORY_CACHE) == 0) {
-            throw new IllegalStateException("Database has been closed.");
-        }
+    public int getID(long ipAddress) {
+        if (current != this) {
+            LookupService db = acquire();
+            try {
+                return db.getID(ipAddress);
+            }
+            finally {
+                release(db);
+            }
+        }
+        if (file == null && (dboptions & GEOIP_MEMORY_CACHE) == 0) {
+            throw new IllegalStateException("Database has been closed.");
+        }
 	int ret = seekCountry(ipAddress) - databaseSegments[0];
 	return ret;
     }
 
+    /**
+     * Looks up the country ids of many IPv4 addresses at once. The batch is
+     * sorted first, so that neighbouring addresses reuse the part of the
+     * search tree path they share instead of walking from the root, and
+     * addresses in the network of the previous one skip the walk entirely.
+     * Disk based databases are locked once for the whole batch.
+     *
+     * @param ipv4 the addresses, as returned by InetAddress.hashCode().
+     * @param out receives the country id of each address, as returned by
+     *      getID(), at the same index.
+     */
+    public void getCountryIds(int [] ipv4, short [] out) {
+        getCountryIds(ipv4, out, false);
+    }
+
+    /**
+     * Looks up the country ids of many IPv4 addresses at once.
+     *
+     * @param ipv4 the addresses, as returned by InetAddress.hashCode().
+     * @param out receives the country id of each address at the same index.
+     * @param sorted true if the addresses are already in ascending unsigned
+     *      order, so the batch is walked as is. Unsorted input still gives
+     *      correct results, only less of the paths are shared.
+     * @see #getCountryIds(int[], short[])
+     */
+    public void getCountryIds(int [] ipv4, short [] out, boolean sorted) {
+        if (current != this) {
+            LookupService db = acquire();
+            try {
+                db.getCountryIds(ipv4, out, sorted);
+                return;
+            }
+            finally {
+                release(db);
+            }
+        }
+        if (out.length < ipv4.length) {
+            throw new IllegalArgumentException("Output array is shorter than the batch");
+        }
+        int [] values = seekBatch(ipv4, sorted, null);
+        int segment = databaseSegments[0];
+        for (int i = 0; i < ipv4.length; i++) {
+            out[i] = (short) (values[i] - segment);
+        }
+    }
+
+    /**
+     * Looks up the locations of many IPv4 addresses at once in a city
+     * database. The search tree is walked as in getCountryIds() and every
+     * distinct record is decoded only once per batch, so addresses in the
+     * same city share one Location instance.
+     *
+     * @param ipv4 the addresses, as returned by InetAddress.hashCode().
+     * @param out receives the location of each address, or null if it is
+     *      unknown, at the same index.
+     */
+    public void getLocations(int [] ipv4, Location [] out) {
+        getLocations(ipv4, out, false);
+    }
+
+    /**
+     * Looks up the locations of many IPv4 addresses at once.
+     *
+     * @param ipv4 the addresses, as returned by InetAddress.hashCode().
+     * @param out receives the location of each address at the same index.
+     * @param sorted true if the addresses are already in ascending unsigned
+     *      order.
+     * @see #getLocations(int[], Location[])
+     */
+    public void getLocations(int [] ipv4, Location [] out, boolean sorted) {
+        if (current != this) {
+            LookupService db = acquire();
+            try {
+                db.getLocations(ipv4, out, sorted);
+                return;
+            }
+            finally {
+                release(db);
+            }
+        }
+        if (out.length < ipv4.length) {
+            throw new IllegalArgumentException("Output array is shorter than the batch");
+        }
+        seekBatch(ipv4, sorted, out);
+    }
+
+    /**
+     * Returns the network an IPv4 address is in together with the id found
+     * for it, so the result can be reused for every address in the network.
+     *
+     * @param ipAddress the address, as returned by InetAddress.hashCode().
+     * @return the network, with getID() semantics for its id.
+     */
+    public Network getNetwork(int ipAddress) {
+        if (current != this) {
+            LookupService db = acquire();
+            try {
+                return db.getNetwork(ipAddress);
+            }
+            finally {
+                release(db);
+            }
+        }
+        if (file == null && (dboptions & GEOIP_MEMORY_CACHE) == 0) {
+            throw new IllegalStateException("Database has been closed.");
+        }
+        long seek = seekNetwork(ipAddress & 0xFFFFFFFFL);
+        return Network.ipv4(ipAddress, (int) (seek >>> 32), (int) seek - databaseSegments[0]);
+    }
+
+    /**
+     * Returns the network an IPv6 address is in together with the id found
+     * for it.
+     *
+     * @param high the upper 64 bits of the IPv6 address.
+     * @param low the lower 64 bits of the IPv6 address.
+     * @return the network, with getID() semantics for its id.
+     */
+    public Network getNetworkV6(long high, long low) {
+        if (current != this) {
+            LookupService db = acquire();
+            try {
+                return db.getNetworkV6(high, low);
+            }
+            finally {
+                release(db);
+            }
+        }
+        if (file == null && (dboptions & GEOIP_MEMORY_CACHE) == 0) {
+            throw new IllegalStateException("Database has been closed.");
+        }
+        long seek = seekNetworkV6(high, low);
+        return Network.ipv6(high, low, (int) (seek >>> 32), (int) seek - databaseSegments[0]);
+    }
+
+    /**
+     * Returns the country and network of an IPv4 address packed into a
+     * long, without allocating. Decode it with the static methods of
+     * Network.
+     *
+     * @param ipAddress the address, as returned by InetAddress.hashCode().
+     * @return the base address in bits 32-63, the prefix length in bits
+     *      16-23 and the country id in bits 0-15.
+     */
+    public long getCountryNetwork(int ipAddress) {
+        if (current != this) {
+            LookupService db = acquire();
+            try {
+                return db.getCountryNetwork(ipAddress);
+            }
+            finally {
+                release(db);
+            }
+        }
+        if (file == null && (dboptions & GEOIP_MEMORY_CACHE) == 0) {
+            throw new IllegalStateException("Database has been closed.");
+        }
+        long seek = seekNetwork(ipAddress & 0xFFFFFFFFL);
+        return Network.pack(ipAddress, (int) (seek >>> 32), (int) seek - COUNTRY_BEGIN);
+    }
+
+    /**
+     * Returns the netmask of the last lookup made by the calling thread.
+     *
+     * @return the netmask.
+     * @deprecated use getNetwork(), which returns the netmask together with
+     *      the result of the lookup.
+     */
+    @Deprecated
     public int last_netmask() {
-      return this.last_netmask; 
+        if (current != this) {
+            LookupService db = acquire();
+            try {
+                return db.last_netmask();
+            }
+            finally {
+                release(db);
+            }
+        }
+      return this.last_netmask.get()[0];
     }
 
+    /**
+     * @deprecated the netmask is set by lookups, see getNetwork().
+     */
+    @Deprecated
     public void netmask(int nm){
-      this.last_netmask = nm;
+      this.last_netmask.get()[0] = nm;
     }
 
     /**
@@ -524,12 +1438,24 @@ public class LookupService {
      *
      * @return database info.
      */
-    public synchronized DatabaseInfo getDatabaseInfo() {
+    public DatabaseInfo getDatabaseInfo() {
+        if (current != this) {
+            LookupService db = acquire();
+            try {
+                return db.getDatabaseInfo();
+            }
+            finally {
+                release(db);
+            }
+        }
+        return readDatabaseInfo();
+    }
+
+    private synchronized DatabaseInfo readDatabaseInfo() {
         if (databaseInfo != null) {
             return databaseInfo;
         }
         try {
-            _check_mtime();
             boolean hasStructureInfo = false;
             byte [] delim = new byte[3];
             // Advance to part of file where database info is stored.
@@ -569,22 +1495,72 @@ public class LookupService {
         return new DatabaseInfo("");
     }
 
-    synchronized void _check_mtime(){
+    /**
+     * Loads the database again if the file has changed since it was loaded
+     * and forwards lookups to the new copy. Called by the watcher thread
+     * with GEOIP_CHECK_CACHE, lookups carry on against the current copy
+     * while the new one loads, and the old copy is closed once the lookups
+     * in flight on it are done.
+     */
+    void _check_mtime(){
+      if ((dboptions & GEOIP_CHECK_CACHE) == 0) {
+        return;
+      }
+      long t = databaseFile.lastModified();
+      if (t == mtime || !DatabaseWatcher.isSettled(databaseFile, t)) {
+        return;
+      }
+      LookupService next = null;
+      Exception failed = null;
       try {
-        if ((dboptions & GEOIP_CHECK_CACHE) != 0){
-          long t = databaseFile.lastModified();
-          if (t != mtime){
-            /* GeoIP Database file updated */
-            /* refresh filehandle */
-            file.close();
-            file = new RandomAccessFile(databaseFile,"r");
-	    databaseInfo = null;
-	    init();
-          }
+        /* GeoIP Database file updated */
+        next = new LookupService(databaseFile, dboptions & ~GEOIP_CHECK_CACHE);
+        if (strides != null) {
+          next.compileStrideTrie(strides);
+        }
+        if (pageCacheSize > 0) {
+          next.setPageCacheSize(pageCacheSize);
+        }
+        if (recordMemoSize != 0) {
+          next.setRecordMemoSize(Math.max(recordMemoSize, 0));
+        }
+        if (next.databaseType != current.databaseType) {
+          // a file cut short has lost the structure info with the type
+          throw new IOException("The database type changed to " + next.databaseType);
         }
       } catch (IOException e) {
-        System.out.println("file not found");
+        failed = e;
+      } catch (RuntimeException e) {
+        // a damaged file fails anywhere while it is read
+        failed = e;
+      }
+      if (failed != null) {
+        // lookups stay on the current copy
+        System.err.println("Can not reload " + databaseFile + ": " + failed);
+        if (next != null) {
+          next.close();
+        }
+        return;
+      }
+      LookupService old;
+      synchronized (this) {
+        if (!watched) {
+          // closed while loading
+          next.close();
+          return;
+        }
+        mtime = t;
+        old = current;
+        current = next;
       }
+      // lookups that started on the old copy finish before it is closed;
+      // they are short, so park for a few microseconds at first and back
+      // off to a millisecond if one is held up
+      for (long wait = 1000; old.readers.sum() != 0; wait = Math.min(wait * 2, 1000000)) {
+        LockSupport.parkNanos(wait);
+      }
+      old.dispose();
+      old.freeDirect();
     }
 
     // for GeoIP City only
@@ -697,7 +1673,7 @@ public class LookupService {
         return record;
     }
 
-    public synchronized Region getRegion(String str) {
+    public Region getRegion(String str) {
 	InetAddress addr;
 	try {
 	    addr = InetAddress.getByName(str);
@@ -709,317 +1685,942 @@ public class LookupService {
 	return getRegion(bytesToLong(addr.getAddress()));
     }
 
-    public synchronized Region getRegion(long ipnum) {
-        Region record = new Region();
-        int seek_region = 0;
-        if (databaseType == DatabaseInfo.REGION_EDITION_REV0) {
-            seek_region = seekCountry(ipnum) - STATE_BEGIN_REV0;
-            char ch[] = new char[2];
-            if (seek_region >= 1000) {
-                record.countryCode = "US";
-                record.countryName = "United States";
-                ch[0] = (char)(((seek_region - 1000)/26) + 65);
-                ch[1] = (char)(((seek_region - 1000)%26) + 65);
-	        record.region = new String(ch);
-            } else {
-                record.countryCode = countryCode[seek_region];
-                record.countryName = countryName[seek_region];
-                record.region = "";
-            }
-        } else if (databaseType == DatabaseInfo.REGION_EDITION_REV1) {
-            seek_region = seekCountry(ipnum) - STATE_BEGIN_REV1;
-            char ch[] = new char[2];
-            if (seek_region < US_OFFSET) {
-                record.countryCode = "";
-                record.countryName = "";
-	        record.region = "";
-            } else if (seek_region < CANADA_OFFSET) {
-                record.countryCode = "US";
-                record.countryName = "United States";
-                ch[0] = (char)(((seek_region - US_OFFSET)/26) + 65);
-                ch[1] = (char)(((seek_region - US_OFFSET)%26) + 65);
-	        record.region = new String(ch);
-            } else if (seek_region < WORLD_OFFSET) {
-                record.countryCode = "CA";
-                record.countryName = "Canada";
-                ch[0] = (char)(((seek_region - CANADA_OFFSET)/26) + 65);
-                ch[1] = (char)(((seek_region - CANADA_OFFSET)%26) + 65);
-	        record.region = new String(ch);
-            } else {
-                record.countryCode = countryCode[(seek_region - WORLD_OFFSET) / FIPS_RANGE];
-                record.countryName = countryName[(seek_region - WORLD_OFFSET) / FIPS_RANGE];
-                record.region = "";
+    /**
+     * Returns the region of an IPv4 address in a region database.<p>
+     *
+     * Every possible result is built once and each call returns its own
+     * copy of it.
+     *
+     * @param ipnum the ip address in long format.
+     * @return the region, or a Region without fields if this is not a
+     *      region database.
+     */
+    public Region getRegion(long ipnum) {
+        if (current != this) {
+            LookupService db = acquire();
+            try {
+                return db.getRegion(ipnum);
             }
-	}
-	return record;
+            finally {
+                release(db);
+            }
+        }
+        if (databaseType != DatabaseInfo.REGION_EDITION_REV0 &&
+            databaseType != DatabaseInfo.REGION_EDITION_REV1) {
+            return new Region();
+        }
+        if (file == null && (dboptions & GEOIP_MEMORY_CACHE) == 0) {
+            throw new IllegalStateException("Database has been closed.");
+        }
+        return region(seekCountry(ipnum));
     }
 
-    public synchronized Location getLocation(long ipnum) {
-        int record_pointer;
-        byte record_buf[] = new byte[FULL_RECORD_LENGTH];
-        int record_buf_offset = 0;
-        Location record = new Location();
-        int str_length = 0;
-        int j, seek_country;
-        double latitude = 0, longitude = 0;
+    /**
+     * Looks up the regions of many IPv4 addresses at once in a region
+     * database, walking the search tree as in getCountryIds().
+     *
+     * @param ipv4 the addresses, as returned by InetAddress.hashCode().
+     * @param out receives the region of each address at the same index.
+     * @see #getRegion(long)
+     */
+    public void getRegions(int [] ipv4, Region [] out) {
+        getRegions(ipv4, out, false);
+    }
 
-        try {
-            seek_country = seekCountry(ipnum);
-            if (seek_country == databaseSegments[0]) {
-                return null;
+    /**
+     * Looks up the regions of many IPv4 addresses at once.
+     *
+     * @param ipv4 the addresses, as returned by InetAddress.hashCode().
+     * @param out receives the region of each address at the same index.
+     * @param sorted true if the addresses are already in ascending unsigned
+     *      order.
+     * @see #getRegions(int[], Region[])
+     */
+    public void getRegions(int [] ipv4, Region [] out, boolean sorted) {
+        if (current != this) {
+            LookupService db = acquire();
+            try {
+                db.getRegions(ipv4, out, sorted);
+                return;
             }
-            record_pointer = seek_country + (2 * recordLength - 1) * databaseSegments[0];
-
-            if ((dboptions & GEOIP_MEMORY_CACHE) == 1) {
-                //read from memory
-		System.arraycopy(dbbuffer, record_pointer, record_buf, 0, Math.min(dbbuffer.length - record_pointer, FULL_RECORD_LENGTH));
-} else {
-                //read from disk
-                file.seek(record_pointer);
-                file.readFully(record_buf);
-            }
-
-            // get country
-            record.countryCode = countryCode[unsignedByteToInt(record_buf[0])];
-            record.countryName = countryName[unsignedByteToInt(record_buf[0])];
-            record_buf_offset++;
-
-            // get region
-            while (record_buf[record_buf_offset + str_length] != '\0')
-                str_length++;
-            if (str_length > 0) {
-                record.region = new String(record_buf, record_buf_offset, str_length);
-            }
-            record_buf_offset += str_length + 1;
-            str_length = 0;
-
-            // get city
-            while (record_buf[record_buf_offset + str_length] != '\0')
-                str_length++;
-            if (str_length > 0) {
-                record.city = new String(record_buf, record_buf_offset, str_length, "ISO-8859-1");
-            }
-            record_buf_offset += str_length + 1;
-            str_length = 0;
-
-            // get postal code
-            while (record_buf[record_buf_offset + str_length] != '\0')
-                str_length++;
-            if (str_length > 0) {
-                record.postalCode = new String(record_buf, record_buf_offset, str_length);
-            }
-            record_buf_offset += str_length + 1;
-
-            // get latitude
-            for (j = 0; j < 3; j++)
-                latitude += (unsignedByteToInt(record_buf[record_buf_offset + j]) << (j * 8));
-            record.latitude = (float) latitude/10000 - 180;
-            record_buf_offset += 3;
-
-            // get longitude
-            for (j = 0; j < 3; j++)
-                longitude += (unsignedByteToInt(record_buf[record_buf_offset + j]) << (j * 8));
-	    record.longitude = (float) longitude/10000 - 180;
-
-	    record.dma_code = record.metro_code = 0;
-	    record.area_code = 0;
-	    if (databaseType == DatabaseInfo.CITY_EDITION_REV1) {
-		// get DMA code
-		int metroarea_combo = 0;
-		if (record.countryCode == "US") {
-		    record_buf_offset += 3;
-		    for (j = 0; j < 3; j++)
-			metroarea_combo += (unsignedByteToInt(record_buf[record_buf_offset + j]) << (j * 8));
-		    record.metro_code = record.dma_code = metroarea_combo/1000;
-		    record.area_code = metroarea_combo % 1000;
-		}
+            finally {
+                release(db);
             }
-	}
-	catch (IOException e) {
-            System.err.println("IO Exception while seting up segments");
         }
-        return record;
+        if (databaseType != DatabaseInfo.REGION_EDITION_REV0 &&
+            databaseType != DatabaseInfo.REGION_EDITION_REV1) {
+            throw new IllegalStateException("Not a region database.");
+        }
+        if (out.length < ipv4.length) {
+            throw new IllegalArgumentException("Output array is shorter than the batch");
+        }
+        int [] values = seekBatch(ipv4, sorted, null);
+        for (int i = 0; i < ipv4.length; i++) {
+            out[i] = region(values[i]);
+        }
     }
 
-    public String getOrg(InetAddress addr) {
-        return getOrg(bytesToLong(addr.getAddress()));
+    private Region region(int value) {
+        if (databaseType == DatabaseInfo.REGION_EDITION_REV0) {
+            return Regions.copy(Regions.rev0(value - STATE_BEGIN_REV0));
+        }
+        return Regions.copy(Regions.rev1(value - STATE_BEGIN_REV1,
+                US_OFFSET, CANADA_OFFSET, WORLD_OFFSET, FIPS_RANGE));
     }
 
-    public String getOrg(String str) {
-        InetAddress addr;
-	try {
-	    addr = InetAddress.getByName(str);
-	}
-	catch (UnknownHostException e) {
-            return null;
-	}
-	return getOrg(addr);
+    public Location getLocation(long ipnum) {
+        if (current != this) {
+            LookupService db = acquire();
+            try {
+                return db.getLocation(ipnum);
+            }
+            finally {
+                release(db);
+            }
+        }
+        if (file == null && (dboptions & GEOIP_MEMORY_CACHE) == 0) {
+            throw new IllegalStateException("Database has been closed.");
+        }
+        return readLocation(ipnum);
     }
 
-    // GeoIP Organization and ISP Edition methods
-    public synchronized String getOrg(long ipnum) {
-        int seek_org;
-        int record_pointer;
-        int str_length = 0;
-        byte [] buf = new byte[MAX_ORG_RECORD_LENGTH];
-        String org_buf;
-
-        try {
-            seek_org = seekCountry(ipnum);
-            if (seek_org == databaseSegments[0]) {
-		return null;
-            }
+    private Location readLocation(long ipnum) {
+        CityColumns cols = columns;
+        if (cols != null) {
+            long seek = cols.seek(ipnum);
+            last_netmask.get()[0] = (int) (seek >>> 32);
+            int ordinal = (int) seek;
+            return ordinal < 0 ? null : cols.getLocation(ordinal);
+        }
+        return readLocationRecord(seekCountry(ipnum));
+    }
 
-            record_pointer = seek_org + (2 * recordLength - 1) * databaseSegments[0];
-            if ((dboptions & GEOIP_MEMORY_CACHE) == 1) {
-                //read from memory
-		System.arraycopy(dbbuffer, record_pointer, buf, 0, Math.min(dbbuffer.length - record_pointer, MAX_ORG_RECORD_LENGTH));
-            } else {
-		//read from disk
-                file.seek(record_pointer);
-                file.readFully(buf);
+    /**
+     * Returns the location of a record id of a city database, as found in
+     * Network.getId(). Together with getNetwork() this lets callers decode
+     * a record once for a whole network. With GEOIP_CHECK_CACHE use
+     * getNetwork(int, Location[]) instead, so both come from the same copy.
+     *
+     * @param id the record id.
+     * @return the location, or null for id 0.
+     */
+    public Location getLocationById(int id) {
+        if (current != this) {
+            LookupService db = acquire();
+            try {
+                return db.getLocationById(id);
             }
-            while (buf[str_length] != '\0') {
-		str_length++;
+            finally {
+                release(db);
             }
-            org_buf = new String(buf, 0, str_length, "ISO-8859-1");
-            return org_buf;
         }
-        catch (IOException e) {
-            System.out.println("IO Exception");
-            return null;
+        if (file == null && (dboptions & GEOIP_MEMORY_CACHE) == 0) {
+            throw new IllegalStateException("Database has been closed.");
         }
+        return readLocationRecord(id + databaseSegments[0]);
     }
 
     /**
-     * Finds the country index value given an IPv6 address.
+     * Returns the network an IPv4 address is in and stores the location of
+     * its record in out[0], both taken from the same copy of a database
+     * opened with GEOIP_CHECK_CACHE. Calling getNetwork() and then
+     * getLocationById() could decode the id against a copy loaded in
+     * between.
      *
-     * @param addr the ip address to find in long format.
-     * @return the country index.
+     * @param ipAddress the address, as returned by InetAddress.hashCode().
+     * @param out receives the location, or null for id 0.
+     * @return the network, with getID() semantics for its id.
      */
-    private synchronized int seekCountryV6(InetAddress addr) {
-        byte [] v6vec = addr.getAddress();
-	byte [] buf = new byte[2 * MAX_RECORD_LENGTH];
-	int [] x = new int[2];
-        int offset = 0;
-        _check_mtime();
-        for (int depth = 127; depth >= 0; depth--) {
-            if ((dboptions & GEOIP_MEMORY_CACHE) == 1) {
-		//read from memory
-                for (int i = 0;i < 2 * MAX_RECORD_LENGTH;i++) {
-		    buf[i] = dbbuffer[(2 * recordLength * offset)+i];
-		}
-            } else if ((dboptions & GEOIP_INDEX_CACHE) != 0) {
-                //read from index cache
-                for (int i = 0;i < 2 * MAX_RECORD_LENGTH;i++) {
-		    buf[i] = index_cache[(2 * recordLength * offset)+i];
-		}            
-            } else {
-		//read from disk 
-		try {
-                    file.seek(2 * recordLength * offset);
-                    file.readFully(buf);
-                }
-                catch (IOException e) {
-                    System.out.println("IO Exception");
-                }
+    public Network getNetwork(int ipAddress, Location [] out) {
+        if (current != this) {
+            LookupService db = acquire();
+            try {
+                return db.getNetwork(ipAddress, out);
             }
-            for (int i = 0; i<2; i++) {
-                x[i] = 0;
-                for (int j = 0; j<recordLength; j++) {
-                    int y = buf[i*recordLength+j];
-                    if (y < 0) {
-                        y+= 256;
-                    }
-                    x[i] += (y << (j * 8));
-                }
+            finally {
+                release(db);
             }
+        }
+        if (file == null && (dboptions & GEOIP_MEMORY_CACHE) == 0) {
+            throw new IllegalStateException("Database has been closed.");
+        }
+        long seek = seekNetwork(ipAddress & 0xFFFFFFFFL);
+        out[0] = readLocationRecord((int) seek);
+        return Network.ipv4(ipAddress, (int) (seek >>> 32), (int) seek - databaseSegments[0]);
+    }
 
-            int bnum = 127 - depth;
-            int idx = bnum >> 3;
-            int b_mask = 1 << ( bnum & 7 ^ 7 );
-            if ((v6vec[idx] & b_mask) > 0) {
-                if (x[1] >= databaseSegments[0]) {
-                    last_netmask = 128 - depth;
-                    return x[1];
-                }
-                offset = x[1];
-            }
-            else {
-                if (x[0] >= databaseSegments[0]) {
-                    last_netmask = 128 - depth;
-                    return x[0];
-                }
-                offset = x[0];
-	    }
-	}
+    // for GeoIP City only
+    public CityRecord getCityRecord(InetAddress addr) {
+        return getCityRecord(bytesToLong(addr.getAddress()));
+    }
 
-        // shouldn't reach here
-        System.err.println("Error seeking country while seeking " + addr.getHostAddress() );
-        return 0;
+    /**
+     * Looks up the city record of an address together with the name of its
+     * region and its time zone. Addresses that point to the same record
+     * share one instance, which is decoded once and then served from the
+     * record memo while it stays there.
+     *
+     * @param ipnum the ip address in long format.
+     * @return the record, or null if the address is unknown.
+     */
+    public CityRecord getCityRecord(long ipnum) {
+        if (current != this) {
+            LookupService db = acquire();
+            try {
+                return db.getCityRecord(ipnum);
+            }
+            finally {
+                release(db);
+            }
+        }
+        if (file == null && (dboptions & GEOIP_MEMORY_CACHE) == 0) {
+            throw new IllegalStateException("Database has been closed.");
+        }
+        return readCityRecord(seekCountry(ipnum));
     }
+
     /**
-     * Finds the country index value given an IP address.
+     * Returns the city record of a record id, as found in Network.getId().
      *
-     * @param ipAddress the ip address to find in long format.
-     * @return the country index.
+     * @param id the record id.
+     * @return the record, or null for id 0.
      */
-    private synchronized int seekCountry(long ipAddress) {
-	byte [] buf = new byte[2 * MAX_RECORD_LENGTH];
-	int [] x = new int[2];
-        int offset = 0;
-        _check_mtime();
-        for (int depth = 31; depth >= 0; depth--) {
-            if ((dboptions & GEOIP_MEMORY_CACHE) == 1) {
-		//read from memory
-                for (int i = 0;i < 2 * MAX_RECORD_LENGTH;i++) {
-		    buf[i] = dbbuffer[(2 * recordLength * offset)+i];
-		}
-            } else if ((dboptions & GEOIP_INDEX_CACHE) != 0) {
-                //read from index cache
-                for (int i = 0;i < 2 * MAX_RECORD_LENGTH;i++) {
-		    buf[i] = index_cache[(2 * recordLength * offset)+i];
-		}            
-            } else {
-		//read from disk 
-		try {
-                    file.seek(2 * recordLength * offset);
-                    file.readFully(buf);
-                }
-                catch (IOException e) {
-                    System.out.println("IO Exception");
-                }
+    public CityRecord getCityRecordById(int id) {
+        if (current != this) {
+            LookupService db = acquire();
+            try {
+                return db.getCityRecordById(id);
             }
-            for (int i = 0; i<2; i++) {
-                x[i] = 0;
-                for (int j = 0; j<recordLength; j++) {
-                    int y = buf[i*recordLength+j];
-                    if (y < 0) {
-                        y+= 256;
-                    }
-                    x[i] += (y << (j * 8));
-                }
+            finally {
+                release(db);
             }
+        }
+        if (file == null && (dboptions & GEOIP_MEMORY_CACHE) == 0) {
+            throw new IllegalStateException("Database has been closed.");
+        }
+        return readCityRecord(id + databaseSegments[0]);
+    }
 
-            if ((ipAddress & (1 << depth)) > 0) {
-                if (x[1] >= databaseSegments[0]) {
-                    last_netmask = 32 - depth;
-                    return x[1];
-                }
-                offset = x[1];
+    private CityRecord readCityRecord(int seek_country) {
+        if (seek_country == databaseSegments[0]) {
+            return null;
+        }
+        int id = seek_country - databaseSegments[0];
+        RecordMemo<CityRecord> memo = cityMemo;
+        CityRecord record = memo != null ? memo.get(id) : null;
+        if (record == null) {
+            record = new CityRecord(id, readLocationRecord(seek_country));
+            if (memo != null) {
+                memo.put(id, record);
             }
-            else {
-                if (x[0] >= databaseSegments[0]) {
-                    last_netmask = 32 - depth;
-                    return x[0];
-                }
-                offset = x[0];
-	    }
-	}
+        }
+        return record;
+    }
 
-        // shouldn't reach here
-        System.err.println("Error seeking country while seeking " + ipAddress);
-        return 0;
+    // for GeoIP City only
+    public LocationView getLocationView(InetAddress addr) {
+        return getLocationView(bytesToLong(addr.getAddress()));
+    }
+
+    /**
+     * Looks up the city record of an address without decoding it. Fields
+     * are decoded when they are read from the view, so callers that only
+     * need the coordinates or the country decode no strings.
+     *
+     * @param ipnum the ip address in long format.
+     * @return the view, or null if the address is unknown.
+     */
+    public LocationView getLocationView(long ipnum) {
+        LocationView view = new LocationView();
+        return getLocationView(ipnum, view) ? view : null;
+    }
+
+    /**
+     * Binds a view to the city record of an address, so one view can be
+     * reused for many lookups without allocating.
+     *
+     * @param ipnum the ip address in long format.
+     * @param view the view to bind.
+     * @return false, leaving the view unbound, if the address is unknown.
+     */
+    public boolean getLocationView(long ipnum, LocationView view) {
+        if (current != this) {
+            LookupService db = acquire();
+            try {
+                return db.getLocationView(ipnum, view);
+            }
+            finally {
+                release(db);
+            }
+        }
+        if (file == null && (dboptions & GEOIP_MEMORY_CACHE) == 0) {
+            throw new IllegalStateException("Database has been closed.");
+        }
+        return bindLocationView(seekCountry(ipnum), view);
+    }
+
+    private boolean bindLocationView(int seek_country, LocationView view) {
+        if (seek_country == databaseSegments[0]) {
+            view.unbind();
+            return false;
+        }
+        int record_pointer = seek_country + (2 * recordLength - 1) * databaseSegments[0];
+        boolean rev1 = databaseType == DatabaseInfo.CITY_EDITION_REV1;
+        ByteBuffer data = recordview;
+        if (data != null && (dboptions & GEOIP_OFFHEAP_CACHE) == 0) {
+            // the heap copy and mappings stay valid for as long as the view
+            view.bind(data, record_pointer, rev1);
+            return true;
+        }
+        // direct memory is freed on close, so copy the record
+        ByteBuffer copy = view.copyBuffer(FULL_RECORD_LENGTH);
+        byte [] buf = copy.array();
+        Arrays.fill(buf, (byte) 0);
+        try {
+            if (data != null) {
+                ByteBuffer src = data.duplicate();
+                src.position(record_pointer);
+                src.get(buf, 0, Math.min(FULL_RECORD_LENGTH, src.remaining()));
+            } else {
+                readRecordArea(buf, FULL_RECORD_LENGTH, record_pointer);
+            }
+        }
+        catch (IOException e) {
+            System.err.println("IO Exception while reading a location");
+            view.unbind();
+            return false;
+        }
+        view.bind(copy, 0, rev1);
+        return true;
+    }
+
+    /**
+     * Decodes the city record a search tree value points to.
+     *
+     * @param seek_country the search tree value.
+     * @return the location, or null for the empty record.
+     */
+    private Location readLocationRecord(int seek_country) {
+        int record_pointer;
+        ByteBuffer record_buf;
+        int record_buf_offset;
+
+        try {
+            if (seek_country == databaseSegments[0]) {
+                return null;
+            }
+            CityColumns cols = columns;
+            if (cols != null) {
+                int ordinal = cols.ordinalOf(seek_country - databaseSegments[0]);
+                if (ordinal >= 0) {
+                    return cols.getLocation(ordinal);
+                }
+            }
+            record_pointer = seek_country + (2 * recordLength - 1) * databaseSegments[0];
+
+            if (recordview != null) {
+                //read in place from memory, the mapping or direct memory
+                record_buf = recordview;
+                record_buf_offset = record_pointer;
+            } else {
+                //read from disk
+                byte buf[] = new byte[FULL_RECORD_LENGTH];
+                readRecordArea(buf, FULL_RECORD_LENGTH, record_pointer);
+                record_buf = ByteBuffer.wrap(buf);
+                record_buf_offset = 0;
+            }
+
+            return decodeLocation(record_buf, record_buf_offset,
+                databaseType == DatabaseInfo.CITY_EDITION_REV1);
+	}
+	catch (IOException e) {
+            System.err.println("IO Exception while seting up segments");
+        }
+        return new Location();
+    }
+
+    /**
+     * Decodes a city record.
+     *
+     * @param record_buf the buffer holding the record.
+     * @param record_buf_offset the position of the record.
+     * @param rev1 true for a revision 1 city database, which stores DMA and
+     *      area codes of US records.
+     * @return the location.
+     */
+    static Location decodeLocation(ByteBuffer record_buf, int record_buf_offset, boolean rev1) {
+        Location record = new Location();
+        int str_length;
+
+        // get country
+        record.countryCode = countryCode[unsignedByteToInt(record_buf.get(record_buf_offset))];
+        record.countryName = countryName[unsignedByteToInt(record_buf.get(record_buf_offset))];
+        record_buf_offset++;
+
+        // get region
+        str_length = stringLength(record_buf, record_buf_offset);
+        if (str_length > 0) {
+            record.region = readString(record_buf, record_buf_offset, str_length);
+        }
+        record_buf_offset += str_length + 1;
+
+        // get city
+        str_length = stringLength(record_buf, record_buf_offset);
+        if (str_length > 0) {
+            record.city = readString(record_buf, record_buf_offset, str_length);
+        }
+        record_buf_offset += str_length + 1;
+
+        // get postal code
+        str_length = stringLength(record_buf, record_buf_offset);
+        if (str_length > 0) {
+            record.postalCode = readString(record_buf, record_buf_offset, str_length);
+        }
+        record_buf_offset += str_length + 1;
+
+        // get latitude
+        int latitude = readRecord(record_buf, record_buf_offset, STANDARD_RECORD_LENGTH);
+        record.latitude = (float) latitude/10000 - 180;
+        record_buf_offset += 3;
+
+        // get longitude
+        int longitude = readRecord(record_buf, record_buf_offset, STANDARD_RECORD_LENGTH);
+        record.longitude = (float) longitude/10000 - 180;
+
+        record.dma_code = record.metro_code = 0;
+        record.area_code = 0;
+        if (rev1) {
+            // get DMA code
+            if (record.countryCode == "US") {
+                record_buf_offset += 3;
+                int metroarea_combo = readRecord(record_buf, record_buf_offset, STANDARD_RECORD_LENGTH);
+                record.metro_code = record.dma_code = metroarea_combo/1000;
+                record.area_code = metroarea_combo % 1000;
+            }
+        }
+        return record;
+    }
+
+    public String getOrg(InetAddress addr) {
+        return getOrg(bytesToLong(addr.getAddress()));
+    }
+
+    public String getOrg(String str) {
+        InetAddress addr;
+	try {
+	    addr = InetAddress.getByName(str);
+	}
+	catch (UnknownHostException e) {
+            return null;
+	}
+	return getOrg(addr);
+    }
+
+    // GeoIP Organization and ISP Edition methods
+    public String getOrg(long ipnum) {
+        if (current != this) {
+            LookupService db = acquire();
+            try {
+                return db.getOrg(ipnum);
+            }
+            finally {
+                release(db);
+            }
+        }
+        if (file == null && (dboptions & GEOIP_MEMORY_CACHE) == 0) {
+            throw new IllegalStateException("Database has been closed.");
+        }
+        return readOrg(ipnum);
+    }
+
+    private String readOrg(long ipnum) {
+        Organization org = readOrganization(seekCountry(ipnum));
+        return org != null ? org.getName() : null;
+    }
+
+    public Organization getOrganization(InetAddress addr) {
+        return getOrganization(bytesToLong(addr.getAddress()));
+    }
+
+    /**
+     * Looks up the record of an address in an org, ISP or ASN database.
+     * Addresses that point to the same record share one instance, so its
+     * name is decoded and, for ASN databases, its AS number parsed once
+     * while it stays in the record memo.
+     *
+     * @param ipnum the ip address in long format.
+     * @return the record, or null if the address is unknown.
+     */
+    public Organization getOrganization(long ipnum) {
+        if (current != this) {
+            LookupService db = acquire();
+            try {
+                return db.getOrganization(ipnum);
+            }
+            finally {
+                release(db);
+            }
+        }
+        if (file == null && (dboptions & GEOIP_MEMORY_CACHE) == 0) {
+            throw new IllegalStateException("Database has been closed.");
+        }
+        return readOrganization(seekCountry(ipnum));
+    }
+
+    private Organization readOrganization(int seek_org) {
+        if (seek_org == databaseSegments[0]) {
+            return null;
+        }
+        int id = seek_org - databaseSegments[0];
+        RecordMemo<Organization> memo = orgMemo;
+        Organization org = memo != null ? memo.get(id) : null;
+        if (org == null) {
+            String name = readOrgRecord(seek_org);
+            if (name == null) {
+                return null;
+            }
+            org = new Organization(id, name, databaseType == DatabaseInfo.ASNUM_EDITION);
+            if (memo != null) {
+                memo.put(id, org);
+            }
+        }
+        return org;
+    }
+
+    private String readOrgRecord(int seek_org) {
+        int record_pointer;
+        int str_length = 0;
+        String org_buf;
+
+        try {
+            record_pointer = seek_org + (2 * recordLength - 1) * databaseSegments[0];
+            if (recordview != null) {
+                //read in place from memory, the mapping or direct memory
+                str_length = stringLength(recordview, record_pointer);
+                return readString(recordview, record_pointer, str_length);
+            }
+            //read from disk
+            byte [] buf = new byte[MAX_ORG_RECORD_LENGTH];
+            readRecordArea(buf, MAX_ORG_RECORD_LENGTH, record_pointer);
+            while (str_length < MAX_ORG_RECORD_LENGTH && buf[str_length] != '\0') {
+		str_length++;
+            }
+            org_buf = new String(buf, 0, str_length, "ISO-8859-1");
+            return org_buf;
+        }
+        catch (IOException e) {
+            System.out.println("IO Exception");
+            return null;
+        }
+    }
+
+    /**
+     * Finds the country index value given an IPv6 address.
+     *
+     * @param addr the ip address to find in long format.
+     * @return the country index.
+     */
+    private int seekCountryV6(InetAddress addr) {
+        byte [] v6vec = addr.getAddress();
+        if (v6vec.length == 4) {
+            // IPv4 mapped addresses are returned as Inet4Address
+            return seekCountryV6(0, 0xFFFF00000000L | bytesToLong(v6vec));
+        }
+        return seekCountryV6(bytesToLong(v6vec, 0), bytesToLong(v6vec, 8));
+    }
+
+    /**
+     * Finds the country index value given an IPv6 address.
+     *
+     * @param high the upper 64 bits of the address.
+     * @param low the lower 64 bits of the address.
+     * @return the country index.
+     */
+    private int seekCountryV6(long high, long low) {
+        long seek = seekNetworkV6(high, low);
+        last_netmask.get()[0] = (int) (seek >>> 32);
+        return (int) seek;
+    }
+
+    /**
+     * Finds the record and netmask of an IPv6 address.
+     *
+     * @return the record found in the low 32 bits and the netmask in the
+     *      high 32 bits.
+     */
+    private long seekNetworkV6(long high, long low) {
+        if (treeInMemoryV6) {
+            return seekCountryV6Memory(high, low);
+        }
+        return seekCountryV6Disk(high, low);
+    }
+
+    /**
+     * Walks the in-memory search tree without locking or allocating.
+     *
+     * @param high the upper 64 bits of the address.
+     * @param low the lower 64 bits of the address.
+     * @return the record found in the low 32 bits and the netmask in the
+     *      high 32 bits.
+     */
+    private long seekCountryV6Memory(long high, long low) {
+        if (strideTrie != null) {
+            long seek = strideTrie.seek(high, low);
+            return seek + databaseSegments[0];
+        }
+        if (rangeTable != null && rangeTable.getWidth() == 128) {
+            return rangeTable.seek(high, low);
+        }
+        if (tree != null) {
+            return seekCountryV6Tree(high, low);
+        }
+        byte [] buf = dbbuffer != null ? dbbuffer : index_cache;
+        if (buf == null) {
+            return seekCountryV6Mapped(high, low);
+        }
+        int length = recordLength;
+        int offset = 0;
+        for (int depth = 127; depth >= 0; depth--) {
+            int pos = 2 * length * offset;
+            if (bitV6(high, low, depth) != 0) {
+                pos += length;
+            }
+            int x = readRecord(buf, pos, length);
+            if (x >= databaseSegments[0]) {
+                return ((long) (128 - depth) << 32) | (x & 0xFFFFFFFFL);
+            }
+            offset = x;
+        }
+
+        // shouldn't reach here
+        System.err.println("Error seeking country while seeking IPv6 address");
+        return 0;
+    }
+
+    private long seekCountryV6Tree(long high, long low) {
+        int [] nodes = tree;
+        int segment = databaseSegments[0];
+        int offset = 0;
+        for (int depth = 127; depth >= 0; depth--) {
+            int x = nodes[(offset << 1) | bitV6(high, low, depth)];
+            if (x >= segment) {
+                return ((long) (128 - depth) << 32) | (x & 0xFFFFFFFFL);
+            }
+            offset = x;
+        }
+
+        // shouldn't reach here
+        System.err.println("Error seeking country while seeking IPv6 address");
+        return 0;
+    }
+
+    private long seekCountryV6Mapped(long high, long low) {
+        ByteBuffer buf = treeview;
+        int length = recordLength;
+        int offset = 0;
+        for (int depth = 127; depth >= 0; depth--) {
+            int pos = 2 * length * offset;
+            if (bitV6(high, low, depth) != 0) {
+                pos += length;
+            }
+            int x = readRecord(buf, pos, length);
+            if (x >= databaseSegments[0]) {
+                return ((long) (128 - depth) << 32) | (x & 0xFFFFFFFFL);
+            }
+            offset = x;
+        }
+
+        // shouldn't reach here
+        System.err.println("Error seeking country while seeking IPv6 address");
+        return 0;
+    }
+
+    /**
+     * Walks the search tree on disk with positional reads, so lookups on
+     * several threads do not wait for each other.
+     *
+     * @param high the upper 64 bits of the address.
+     * @param low the lower 64 bits of the address.
+     * @return the record found in the low 32 bits and the netmask in the
+     *      high 32 bits.
+     */
+    private long seekCountryV6Disk(long high, long low) {
+        byte [] buf = new byte[2 * MAX_RECORD_LENGTH];
+        int length = recordLength;
+        int offset = 0;
+        for (int depth = 127; depth >= 0; depth--) {
+            try {
+                readAt(buf, 2 * length, 2L * length * offset);
+            }
+            catch (IOException e) {
+                System.out.println("IO Exception");
+                break;
+            }
+            int x = readRecord(buf, bitV6(high, low, depth) * length, length);
+            if (x >= databaseSegments[0]) {
+                return ((long) (128 - depth) << 32) | (x & 0xFFFFFFFFL);
+            }
+            offset = x;
+        }
+
+        // shouldn't reach here
+        System.err.println("Error seeking country while seeking IPv6 address");
+        return 0;
+    }
+
+    /**
+     * Finds the country index value given an IP address.
+     *
+     * @param ipAddress the ip address to find in long format.
+     * @return the country index.
+     */
+    private int seekCountry(long ipAddress) {
+        long seek = seekNetwork(ipAddress);
+        last_netmask.get()[0] = (int) (seek >>> 32);
+        return (int) seek;
+    }
+
+    /**
+     * Finds the record and netmask of an IPv4 address.
+     *
+     * @return the record found in the low 32 bits and the netmask in the
+     *      high 32 bits.
+     */
+    private long seekNetwork(long ipAddress) {
+        if (treeInMemory) {
+            return seekCountryMemory(ipAddress);
+        }
+        return seekCountryDisk(ipAddress);
+    }
+
+    /**
+     * Walks the in-memory search tree without locking or allocating.
+     *
+     * @param ipAddress the ip address to find in long format.
+     * @return the record found in the low 32 bits and the netmask in the
+     *      high 32 bits.
+     */
+    private long seekCountryMemory(long ipAddress) {
+        if (directIndex != null) {
+            return seekCountryDirect(ipAddress);
+        }
+        if (rangeTable != null && rangeTable.getWidth() == 32) {
+            return rangeTable.seek((int) ipAddress);
+        }
+        if (tree != null) {
+            return seekCountryTree(ipAddress);
+        }
+        byte [] buf = dbbuffer != null ? dbbuffer : index_cache;
+        if (buf == null) {
+            return seekCountryMapped(ipAddress);
+        }
+        int length = recordLength;
+        int offset = 0;
+        for (int depth = 31; depth >= 0; depth--) {
+            int pos = 2 * length * offset;
+            if ((ipAddress & (1 << depth)) != 0) {
+                pos += length;
+            }
+            int x = readRecord(buf, pos, length);
+            if (x >= databaseSegments[0]) {
+                return ((long) (32 - depth) << 32) | (x & 0xFFFFFFFFL);
+            }
+            offset = x;
+        }
+
+        // shouldn't reach here
+        System.err.println("Error seeking country while seeking " + ipAddress);
+        return 0;
+    }
+
+    private long seekCountryDirect(long ipAddress) {
+        int entry = directIndex.lookup((int) ipAddress);
+        return ((long) (entry >>> 8) << 32) | ((entry & 0xFF) + databaseSegments[0]);
+    }
+
+    private long seekCountryTree(long ipAddress) {
+        int [] nodes = tree;
+        int segment = databaseSegments[0];
+        int offset = 0;
+        for (int depth = 31; depth >= 0; depth--) {
+            int x = nodes[(offset << 1) | (int) ((ipAddress >>> depth) & 1)];
+            if (x >= segment) {
+                return ((long) (32 - depth) << 32) | (x & 0xFFFFFFFFL);
+            }
+            offset = x;
+        }
+
+        // shouldn't reach here
+        System.err.println("Error seeking country while seeking " + ipAddress);
+        return 0;
+    }
+
+    private long seekCountryMapped(long ipAddress) {
+        ByteBuffer buf = treeview;
+        int length = recordLength;
+        int offset = 0;
+        for (int depth = 31; depth >= 0; depth--) {
+            int pos = 2 * length * offset;
+            if ((ipAddress & (1 << depth)) != 0) {
+                pos += length;
+            }
+            int x = readRecord(buf, pos, length);
+            if (x >= databaseSegments[0]) {
+                return ((long) (32 - depth) << 32) | (x & 0xFFFFFFFFL);
+            }
+            offset = x;
+        }
+
+        // shouldn't reach here
+        System.err.println("Error seeking country while seeking " + ipAddress);
+        return 0;
+    }
+
+    /**
+     * Walks the search tree on disk with positional reads, so lookups on
+     * several threads do not wait for each other.
+     *
+     * @param ipAddress the ip address to find in long format.
+     * @return the record found in the low 32 bits and the netmask in the
+     *      high 32 bits.
+     */
+    private long seekCountryDisk(long ipAddress) {
+        byte [] buf = new byte[2 * MAX_RECORD_LENGTH];
+        int length = recordLength;
+        int offset = 0;
+        for (int depth = 31; depth >= 0; depth--) {
+            try {
+                readAt(buf, 2 * length, 2L * length * offset);
+            }
+            catch (IOException e) {
+                System.out.println("IO Exception");
+                break;
+            }
+            int x = readRecord(buf, (ipAddress & (1 << depth)) != 0 ? length : 0, length);
+            if (x >= databaseSegments[0]) {
+                return ((long) (32 - depth) << 32) | (x & 0xFFFFFFFFL);
+            }
+            offset = x;
+        }
+
+        // shouldn't reach here
+        System.err.println("Error seeking country while seeking " + ipAddress);
+        return 0;
+    }
+
+    /**
+     * Walks the search tree for a batch of IPv4 addresses.
+     *
+     * @param ipv4 the addresses.
+     * @param sorted true if the addresses are already in ascending order.
+     * @param locations if not null, receives the decoded city records.
+     * @return the search tree value of each address.
+     */
+    private int[] seekBatch(int [] ipv4, boolean sorted, Location [] locations) {
+        if (file == null && (dboptions & GEOIP_MEMORY_CACHE) == 0) {
+            throw new IllegalStateException("Database has been closed.");
+        }
+        int n = ipv4.length;
+        int [] values = new int[n];
+        long [] order = null;
+        if (!sorted) {
+            // sort by unsigned address, keeping the index in the low half
+            order = new long[n];
+            for (int i = 0; i < n; i++) {
+                order[i] = ((long) (ipv4[i] ^ Integer.MIN_VALUE) << 32) | i;
+            }
+            Arrays.sort(order);
+        }
+        boolean indexed = directIndex != null || (rangeTable != null && rangeTable.getWidth() == 32);
+        int segment = databaseSegments[0];
+        // path[d] is the node reached after the first d bits of the previous
+        // address, valid up to the netmask of its network
+        int [] path = new int[32];
+        byte [] buf = new byte[2 * MAX_RECORD_LENGTH];
+        HashMap<Integer, Location> decoded = locations != null ? new HashMap<Integer, Location>() : null;
+        int previous = 0;
+        int netmask = -1;
+        int value = 0;
+        Location location = null;
+        for (int k = 0; k < n; k++) {
+            int i = sorted ? k : (int) order[k];
+            int address = ipv4[i];
+            int common = netmask < 0 ? 0 : Integer.numberOfLeadingZeros(address ^ previous);
+            if (netmask < 0 || common < netmask) {
+                long seek;
+                if (indexed) {
+                    seek = directIndex != null ? seekCountryDirect(address & 0xFFFFFFFFL) : rangeTable.seek(address);
+                } else {
+                    seek = walkFrom(address, common, path, buf, segment);
+                }
+                netmask = (int) (seek >>> 32);
+                int next = (int) seek;
+                if (locations != null && (location == null || next != value)) {
+                    location = decoded.get(next);
+                    if (location == null && next != segment) {
+                        location = readLocationRecord(next);
+                        decoded.put(next, location);
+                    }
+                }
+                value = next;
+            }
+            previous = address;
+            values[i] = value;
+            if (locations != null) {
+                locations[i] = location;
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Continues a search tree walk from the node at a given depth of the
+     * path.
+     *
+     * @return the record found in the low 32 bits and the netmask in the
+     *      high 32 bits.
+     */
+    private long walkFrom(int address, int depth, int [] path, byte [] buf, int segment) {
+        int offset = path[depth];
+        for (int d = depth; d < 32; d++) {
+            path[d] = offset;
+            int x = readNode(offset, (address >>> (31 - d)) & 1, buf);
+            if (x >= segment) {
+                return ((long) (d + 1) << 32) | (x & 0xFFFFFFFFL);
+            }
+            offset = x;
+        }
+
+        // shouldn't reach here
+        System.err.println("Error seeking country while seeking " + (address & 0xFFFFFFFFL));
+        return 0;
+    }
+
+    /**
+     * Reads one branch of a search tree node from wherever the tree is
+     * kept.
+     */
+    private int readNode(int offset, int bit, byte [] buf) {
+        if (tree != null) {
+            return tree[(offset << 1) | bit];
+        }
+        int pos = (2 * offset + bit) * recordLength;
+        if (dbbuffer != null) {
+            return readRecord(dbbuffer, pos, recordLength);
+        }
+        if (index_cache != null) {
+            return readRecord(index_cache, pos, recordLength);
+        }
+        if (treeview != null) {
+            return readRecord(treeview, pos, recordLength);
+        }
+        try {
+            readAt(buf, recordLength, pos);
+        }
+        catch (IOException e) {
+            System.out.println("IO Exception");
+        }
+        return readRecord(buf, 0, recordLength);
     }
 
     /**
@@ -1029,15 +2630,216 @@ public class LookupService {
      * @return the long form of the IP address.
      */
     private static long bytesToLong(byte [] address) {
-        long ipnum = 0;
-        for (int i = 0; i < 4; ++i) {
-            long y = address[i];
-            if (y < 0) {
-                y+= 256;
+        return ((address[0] & 0xFFL) << 24) | ((address[1] & 0xFF) << 16)
+                | ((address[2] & 0xFF) << 8) | (address[3] & 0xFF);
+    }
+
+    /**
+     * Returns a bit of an IPv6 address.
+     *
+     * @param high the upper 64 bits of the address.
+     * @param low the lower 64 bits of the address.
+     * @param depth the bit to return, 127 for the most significant one.
+     * @return the bit, 0 or 1.
+     */
+    private static int bitV6(long high, long low, int depth) {
+        return (int) ((depth >= 64 ? high >>> (depth - 64) : low >>> depth) & 1);
+    }
+
+    /**
+     * Returns eight bytes of an IPv6 address as a long.
+     *
+     * @param address the address bytes.
+     * @param offset 0 for the upper half or 8 for the lower half.
+     * @return the big endian value of the bytes.
+     */
+    private static long bytesToLong(byte [] address, int offset) {
+        long half = 0;
+        for (int i = 0; i < 8; i++) {
+            half = (half << 8) | (address[offset + i] & 0xFF);
+        }
+        return half;
+    }
+
+    /**
+     * Decodes a little endian search tree record.
+     *
+     * @param buf the buffer holding the search tree.
+     * @param pos the position of the record.
+     * @param length the record length, 3 or 4 bytes.
+     * @return the record value.
+     */
+    private static int readRecord(byte [] buf, int pos, int length) {
+        int x = (buf[pos] & 0xFF) | ((buf[pos + 1] & 0xFF) << 8) | ((buf[pos + 2] & 0xFF) << 16);
+        if (length == ORG_RECORD_LENGTH) {
+            x |= (buf[pos + 3] & 0xFF) << 24;
+        }
+        return x;
+    }
+
+    /**
+     * Decodes a little endian search tree record from a buffer. Buffers in
+     * little endian order are read with a single int read where possible.
+     */
+    static int readRecord(ByteBuffer buf, int pos, int length) {
+        if (pos + 4 <= buf.limit() && buf.order() == ByteOrder.LITTLE_ENDIAN) {
+            int x = buf.getInt(pos);
+            return length == ORG_RECORD_LENGTH ? x : x & 0xFFFFFF;
+        }
+        int x = (buf.get(pos) & 0xFF) | ((buf.get(pos + 1) & 0xFF) << 8) | ((buf.get(pos + 2) & 0xFF) << 16);
+        if (length == ORG_RECORD_LENGTH) {
+            x |= (buf.get(pos + 3) & 0xFF) << 24;
+        }
+        return x;
+    }
+
+    /**
+     * Returns the length of a NUL terminated string, stopping at the end of
+     * the buffer.
+     */
+    static int stringLength(ByteBuffer buf, int pos) {
+        int end = pos;
+        int limit = buf.limit();
+        while (end < limit && buf.get(end) != 0) {
+            end++;
+        }
+        return end - pos;
+    }
+
+    /**
+     * Decodes an ISO-8859-1 string straight out of a buffer.
+     */
+    static String readString(ByteBuffer buf, int pos, int length) {
+        if (buf.hasArray()) {
+            return new String(buf.array(), buf.arrayOffset() + pos, length, ISO_8859_1);
+        }
+        char [] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = (char) (buf.get(pos + i) & 0xFF);
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Reads a file section with a positional read. Bytes past the end of
+     * the file are left as they are.<p>
+     *
+     * A thread interrupted during a read closes the channel for every
+     * thread, so the other threads open the file again and retry.
+     */
+    private void readAt(byte [] dst, int length, long position) throws IOException {
+        ByteBuffer buf = ByteBuffer.wrap(dst, 0, length);
+        for (boolean retried = false; ; retried = true) {
+            FileChannel ch = channel;
+            if (ch == null) {
+                throw new ClosedChannelException();
+            }
+            try {
+                while (buf.hasRemaining()) {
+                    if (ch.read(buf, position + buf.position()) < 0) {
+                        return;
+                    }
+                }
+                return;
+            }
+            catch (ClosedChannelException e) {
+                if (retried || Thread.currentThread().isInterrupted()) {
+                    throw e;
+                }
+                reopen(ch);
+            }
+        }
+    }
+
+    /**
+     * Reads a section of the record area, through the page cache if there
+     * is one.
+     */
+    private void readRecordArea(byte [] dst, int length, long position) throws IOException {
+        PageCache cache = pageCache;
+        if (cache == null) {
+            readAt(dst, length, position);
+            return;
+        }
+        int done = 0;
+        while (done < length) {
+            long pos = position + done;
+            long index = pos >>> PageCache.PAGE_SHIFT;
+            byte [] page = cache.get(index);
+            if (page == null) {
+                page = new byte[PageCache.PAGE_SIZE];
+                readAt(page, PageCache.PAGE_SIZE, index << PageCache.PAGE_SHIFT);
+                cache.put(index, page);
+            }
+            int offset = (int) (pos & (PageCache.PAGE_SIZE - 1));
+            int n = Math.min(length - done, PageCache.PAGE_SIZE - offset);
+            System.arraycopy(page, offset, dst, done, n);
+            done += n;
+        }
+    }
+
+    /**
+     * Opens the database file again after its channel has been closed by an
+     * interrupted read, unless another thread already did or the service has
+     * been closed.
+     */
+    private synchronized void reopen(FileChannel closed) throws IOException {
+        if (channel != closed) {
+            return;
+        }
+        if (file == null) {
+            throw new ClosedChannelException();
+        }
+        try {
+            file.close();
+        }
+        catch (IOException e) { }
+        file = new RandomAccessFile(databaseFile, "r");
+        channel = file.getChannel();
+    }
+
+    /**
+     * Copies a file section into direct memory.
+     */
+    private ByteBuffer readDirect(int length) throws IOException {
+        ByteBuffer buf = ByteBuffer.allocateDirect(length).order(ByteOrder.LITTLE_ENDIAN);
+        FileChannel channel = file.getChannel();
+        while (buf.hasRemaining()) {
+            if (channel.read(buf, buf.position()) < 0) {
+                throw new EOFException();
+            }
+        }
+        buf.clear();
+        return buf;
+    }
+
+    /**
+     * Frees the direct memory of a buffer right away instead of waiting for
+     * the garbage collector. The buffer must not be used afterwards.
+     */
+    private static void free(ByteBuffer buf) {
+        if (buf == null || !buf.isDirect()) {
+            return;
+        }
+        try {
+            // Java 9 and later
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            unsafeClass.getMethod("invokeCleaner", ByteBuffer.class).invoke(theUnsafe.get(null), buf);
+        }
+        catch (Exception e) {
+            try {
+                // Java 8
+                Method cleanerMethod = buf.getClass().getMethod("cleaner");
+                cleanerMethod.setAccessible(true);
+                Object cleaner = cleanerMethod.invoke(buf);
+                cleaner.getClass().getMethod("clean").invoke(cleaner);
+            }
+            catch (Exception e2) {
+                // left to the garbage collector
             }
-            ipnum += y << ((3-i)*8);
         }
-        return ipnum;
     }
 
     private static int unsignedByteToInt(byte b) {
@@ -0,0 +1,214 @@
+package com.maxmind.geoip;
+
+/**
+ * The network an address was found in: the base address and prefix length
+ * of the search tree leaf that matched, together with the id found there.
+ * Every address inside the network has the same id, so a result can be
+ * reused for all of them. Instances are immutable.<p>
+ *
+ * IPv4 country lookups can also return the network packed into a long by
+ * LookupService.getCountryNetwork(), decoded with the static methods of
+ * this class. The base address is in bits 32-63, the prefix length in bits
+ * 16-23 and the country id in bits 0-15.
+ *
+ * @see com.maxmind.geoip.LookupService#getNetwork(int)
+ */
+public final class Network {
+
+    private final long high;
+    private final long low;
+    private final int prefixLength;
+    private final boolean ipv6;
+    private final int id;
+
+    private Network(long high, long low, int prefixLength, boolean ipv6, int id) {
+        this.high = high;
+        this.low = low;
+        this.prefixLength = prefixLength;
+        this.ipv6 = ipv6;
+        this.id = id;
+    }
+
+    /**
+     * Creates the IPv4 network of a given prefix length around an address.
+     *
+     * @param address the address, as returned by InetAddress.hashCode().
+     * @param prefixLength the prefix length, 0 to 32.
+     * @param id the id found for the network.
+     */
+    static Network ipv4(int address, int prefixLength, int id) {
+        return new Network(0, address & mask(prefixLength) & 0xFFFFFFFFL, prefixLength, false, id);
+    }
+
+    /**
+     * Creates the IPv6 network of a given prefix length around an address.
+     *
+     * @param high the upper 64 bits of the address.
+     * @param low the lower 64 bits of the address.
+     * @param prefixLength the prefix length, 0 to 128.
+     * @param id the id found for the network.
+     */
+    static Network ipv6(long high, long low, int prefixLength, int id) {
+        return new Network(high & maskHigh(prefixLength), low & maskLow(prefixLength), prefixLength, true, id);
+    }
+
+    /**
+     * Packs an IPv4 country network into a long.
+     */
+    static long pack(int address, int prefixLength, int countryId) {
+        return ((long) (address & mask(prefixLength)) << 32) | (prefixLength << 16) | (countryId & 0xFFFF);
+    }
+
+    private static int mask(int prefixLength) {
+        return prefixLength == 0 ? 0 : -1 << (32 - prefixLength);
+    }
+
+    private static long maskHigh(int prefixLength) {
+        return prefixLength >= 64 ? -1L : prefixLength == 0 ? 0 : -1L << (64 - prefixLength);
+    }
+
+    private static long maskLow(int prefixLength) {
+        return prefixLength <= 64 ? 0 : -1L << (128 - prefixLength);
+    }
+
+    /**
+     * Returns true for an IPv6 network.
+     */
+    public boolean isIPv6() {
+        return ipv6;
+    }
+
+    /**
+     * Returns the base address of an IPv4 network.
+     *
+     * @return the address in long format.
+     */
+    public long getAddress() {
+        return low;
+    }
+
+    /**
+     * Returns the upper 64 bits of the base address of an IPv6 network.
+     */
+    public long getHigh() {
+        return high;
+    }
+
+    /**
+     * Returns the lower 64 bits of the base address of an IPv6 network.
+     */
+    public long getLow() {
+        return low;
+    }
+
+    /**
+     * Returns the prefix length of the network.
+     */
+    public int getPrefixLength() {
+        return prefixLength;
+    }
+
+    /**
+     * Returns the id found for the network, as returned by getID(). For
+     * country databases this is the country id, for city and org databases
+     * the record id, 0 if the network is unknown.
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Returns true if an IPv4 address is inside this network.
+     *
+     * @param address the address, as returned by InetAddress.hashCode().
+     */
+    public boolean contains(int address) {
+        return !ipv6 && (address & mask(prefixLength)) == (int) low;
+    }
+
+    /**
+     * Returns true if an IPv6 address is inside this network.
+     *
+     * @param high the upper 64 bits of the address.
+     * @param low the lower 64 bits of the address.
+     */
+    public boolean contains(long high, long low) {
+        return ipv6 && (high & maskHigh(prefixLength)) == this.high
+                && (low & maskLow(prefixLength)) == this.low;
+    }
+
+    /**
+     * Returns the base address of a packed network.
+     *
+     * @param network the network as returned by getCountryNetwork().
+     * @return the address, as returned by InetAddress.hashCode().
+     */
+    public static int getAddress(long network) {
+        return (int) (network >>> 32);
+    }
+
+    /**
+     * Returns the prefix length of a packed network.
+     */
+    public static int getPrefixLength(long network) {
+        return (int) (network >>> 16) & 0xFF;
+    }
+
+    /**
+     * Returns the country id of a packed network.
+     */
+    public static short getCountryId(long network) {
+        return (short) network;
+    }
+
+    /**
+     * Returns true if an IPv4 address is inside a packed network.
+     *
+     * @param network the network as returned by getCountryNetwork().
+     * @param address the address, as returned by InetAddress.hashCode().
+     */
+    public static boolean contains(long network, int address) {
+        return (address & mask(getPrefixLength(network))) == getAddress(network);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof Network)) {
+            return false;
+        }
+        Network n = (Network) o;
+        return high == n.high && low == n.low && prefixLength == n.prefixLength
+                && ipv6 == n.ipv6 && id == n.id;
+    }
+
+    @Override
+    public int hashCode() {
+        long h = high * 31 + low;
+        return (int) (h ^ (h >>> 32)) * 31 + prefixLength * 7 + id;
+    }
+
+    /**
+     * Returns the network in CIDR notation, e.g. "192.0.2.0/24".
+     */
+    @Override
+    public String toString() {
+        StringBuilder s = new StringBuilder();
+        if (ipv6) {
+            for (int i = 0; i < 8; i++) {
+                long half = i < 4 ? high : low;
+                if (i > 0) {
+                    s.append(':');
+                }
+                s.append(Integer.toHexString((int) (half >>> (48 - 16 * (i & 3))) & 0xFFFF));
+            }
+        } else {
+            for (int i = 3; i >= 0; i--) {
+                s.append((low >>> (8 * i)) & 0xFF);
+                if (i > 0) {
+                    s.append('.');
+                }
+            }
+        }
+        return s.append('/').append(prefixLength).toString();
+    }
+}
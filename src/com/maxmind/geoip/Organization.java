@@ -0,0 +1,85 @@
+package com.maxmind.geoip;
+
+/**
+ * The record of an org, ISP or ASN database. Instances are immutable, so
+ * LookupService shares one instance among all addresses that point to the
+ * same record.<p>
+ *
+ * ASN databases store names like "AS15169 Google Inc."; for those the
+ * number is parsed once into getAsNumber() and the rest into getAsName().
+ *
+ * @see com.maxmind.geoip.LookupService#getOrganization(long)
+ */
+public final class Organization {
+
+    private final int id;
+    private final String name;
+    private final long asNumber;
+    private final String asName;
+
+    /**
+     * Creates a record.
+     *
+     * @param id the record id, as found in Network.getId().
+     * @param name the name stored in the record.
+     * @param asn true to parse an AS number from the name.
+     */
+    Organization(int id, String name, boolean asn) {
+        this.id = id;
+        this.name = name;
+        long number = 0;
+        int i = 2;
+        if (asn && name.startsWith("AS")) {
+            // AS numbers have at most 10 digits
+            while (i < name.length() && i < 12 && name.charAt(i) >= '0' && name.charAt(i) <= '9') {
+                number = number * 10 + name.charAt(i) - '0';
+                i++;
+            }
+        }
+        if (i > 2 && number <= 0xFFFFFFFFL && (i == name.length() || name.charAt(i) == ' ')) {
+            asNumber = number;
+            asName = i < name.length() ? name.substring(i + 1) : "";
+        } else {
+            asNumber = 0;
+            asName = name;
+        }
+    }
+
+    /**
+     * Returns the record id, the same for all addresses of the record.
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Returns the name stored in the record, as returned by getOrg().
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the AS number of a record of an ASN database.
+     *
+     * @return the AS number, or 0 if the name does not start with one.
+     */
+    public long getAsNumber() {
+        return asNumber;
+    }
+
+    /**
+     * Returns the name after the AS number of a record of an ASN database.
+     *
+     * @return the name without the AS number, or the whole name if it does
+     *      not start with one.
+     */
+    public String getAsName() {
+        return asName;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,184 @@
+package com.maxmind.geoip;
+
+import java.util.HashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded cache of fixed-size pages of the database file, used for the
+ * record area with GEOIP_PAGE_CACHE when the records stay on disk. Hot city
+ * and org records are then read from memory without loading the whole
+ * database.<p>
+ *
+ * Pages are spread over stripes by page number, each evicting with the
+ * clock algorithm: a page is kept for another round if it was read since
+ * the hand last passed it. New pages start without that mark, so a scan
+ * over cold records does not push out the hot ones.
+ *
+ * @see com.maxmind.geoip.LookupService#GEOIP_PAGE_CACHE
+ * @see com.maxmind.geoip.LookupService#getPageCache()
+ */
+public final class PageCache {
+
+    /**
+     * Pages are 4KB, so a record spans at most two of them.
+     */
+    final static int PAGE_SHIFT = 12;
+    final static int PAGE_SIZE = 1 << PAGE_SHIFT;
+
+    /**
+     * The number of pages used unless configured otherwise, 4MB in total.
+     */
+    final static int DEFAULT_PAGES = 1024;
+
+    private final static int MAX_STRIPES = 16;
+
+    private final Stripe stripes[];
+    private final int mask;
+    private final int capacity;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    private static final class Stripe {
+        final long keys[];
+        final byte pages[][];
+        final boolean referenced[];
+        final HashMap<Long, Integer> slots;
+        int used = 0;
+        int hand = 0;
+
+        Stripe(int capacity) {
+            keys = new long[capacity];
+            pages = new byte[capacity][];
+            referenced = new boolean[capacity];
+            slots = new HashMap<Long, Integer>(capacity * 2);
+        }
+    }
+
+    /**
+     * Creates a page cache.
+     *
+     * @param capacity the number of pages to hold, at least 1.
+     */
+    PageCache(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("A page cache needs at least one page");
+        }
+        int n = 1;
+        while (n < MAX_STRIPES && n * 2 <= capacity) {
+            n *= 2;
+        }
+        stripes = new Stripe[n];
+        for (int i = 0; i < n; i++) {
+            stripes[i] = new Stripe(capacity / n + (i < capacity % n ? 1 : 0));
+        }
+        mask = n - 1;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Returns a cached page and marks it as read.
+     *
+     * @param page the page number, the file position shifted by PAGE_SHIFT.
+     * @return the page, or null if it is not cached.
+     */
+    byte[] get(long page) {
+        Stripe stripe = stripes[(int) page & mask];
+        synchronized (stripe) {
+            Integer slot = stripe.slots.get(page);
+            if (slot != null) {
+                stripe.referenced[slot] = true;
+                hits.increment();
+                return stripe.pages[slot];
+            }
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * Adds a page read from the file, evicting one that was not read since
+     * the hand last passed it if the stripe is full.
+     *
+     * @param page the page number.
+     * @param data the page, PAGE_SIZE bytes. It must not change afterwards.
+     */
+    void put(long page, byte [] data) {
+        Stripe stripe = stripes[(int) page & mask];
+        synchronized (stripe) {
+            if (stripe.slots.containsKey(page)) {
+                // another thread read it at the same time
+                return;
+            }
+            int slot;
+            int n = stripe.keys.length;
+            if (stripe.used < n) {
+                slot = stripe.used++;
+            } else {
+                while (stripe.referenced[stripe.hand]) {
+                    stripe.referenced[stripe.hand] = false;
+                    stripe.hand = (stripe.hand + 1) % n;
+                }
+                slot = stripe.hand;
+                stripe.hand = (stripe.hand + 1) % n;
+                stripe.slots.remove(stripe.keys[slot]);
+                evictions.increment();
+            }
+            stripe.keys[slot] = page;
+            stripe.pages[slot] = data;
+            stripe.referenced[slot] = false;
+            stripe.slots.put(page, slot);
+        }
+    }
+
+    /**
+     * Returns the number of reads answered from the cache.
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of reads that went to the file.
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the number of pages evicted to make room for new ones.
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * Returns the fraction of reads answered from the cache, 0 if there
+     * were none.
+     */
+    public double getHitRate() {
+        long h = hits.sum();
+        long total = h + misses.sum();
+        return total == 0 ? 0 : (double) h / total;
+    }
+
+    /**
+     * Returns the number of cached pages.
+     */
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.used;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Returns the maximum number of cached pages.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+}
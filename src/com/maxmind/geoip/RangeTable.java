@@ -0,0 +1,324 @@
+package com.maxmind.geoip;
+
+import java.util.Arrays;
+
+/**
+ * The search tree of a database flattened into sorted address ranges, one
+ * per run of addresses with the same value. The ranges are stored in
+ * Eytzinger (breadth first) order, so a lookup is a branch-light search
+ * through an implicit binary tree whose top levels share cache lines.<p>
+ *
+ * Ranges are addressed by their position in that order. To iterate them in
+ * address order start with first() and continue with next():
+ * <pre>
+ * RangeTable ranges = lookupService.getRangeTable();
+ * for (int i = ranges.first(); i != 0; i = ranges.next(i)) {
+ *     System.out.println(ranges.getStart(i) + "-" + ranges.getEnd(i) + " " + ranges.getValue(i));
+ * }</pre>
+ *
+ * @see com.maxmind.geoip.LookupService#GEOIP_RANGE_TABLE
+ */
+public final class RangeTable {
+
+    private final int size;
+    private final int width;
+
+    // IPv4 range bounds with the sign bit flipped, so signed comparison
+    // orders them as unsigned addresses.
+    private final int starts[];
+    private final int ends[];
+
+    // IPv6 range bounds as high and low halves, flipped the same way.
+    private final long startsHigh[];
+    private final long startsLow[];
+    private final long endsHigh[];
+    private final long endsLow[];
+
+    private final int values[];
+
+    private RangeTable(int width, int size) {
+        this.width = width;
+        this.size = size;
+        values = new int[size + 1];
+        if (width == 32) {
+            starts = new int[size + 1];
+            ends = new int[size + 1];
+            startsHigh = startsLow = endsHigh = endsLow = null;
+        } else {
+            starts = ends = null;
+            startsHigh = new long[size + 1];
+            startsLow = new long[size + 1];
+            endsHigh = new long[size + 1];
+            endsLow = new long[size + 1];
+        }
+    }
+
+    /**
+     * Collects the leaves of a search tree in address order, merging
+     * neighbours with the same value.
+     */
+    private static final class Collector {
+        final int tree[];
+        final int segment;
+        final int width;
+        int count = 0;
+        long high[] = new long[1024];
+        long low[] = new long[1024];
+        int value[] = new int[1024];
+
+        Collector(int tree[], int segment, int width) {
+            this.tree = tree;
+            this.segment = segment;
+            this.width = width;
+        }
+
+        void walk(int node, int depth, long prefixHigh, long prefixLow) {
+            for (int bit = 0; bit < 2; bit++) {
+                long h = prefixHigh;
+                long l = prefixLow;
+                if (bit == 1) {
+                    int shift = width - 1 - depth;
+                    if (shift >= 64) {
+                        h |= 1L << (shift - 64);
+                    } else {
+                        l |= 1L << shift;
+                    }
+                }
+                int x = tree[(node << 1) | bit];
+                if (x >= segment || depth + 1 == width) {
+                    add(h, l, x);
+                } else {
+                    walk(x, depth + 1, h, l);
+                }
+            }
+        }
+
+        void add(long startHigh, long startLow, int x) {
+            if (count > 0 && value[count - 1] == x) {
+                return;
+            }
+            if (count == value.length) {
+                high = Arrays.copyOf(high, count * 2);
+                low = Arrays.copyOf(low, count * 2);
+                value = Arrays.copyOf(value, count * 2);
+            }
+            high[count] = startHigh;
+            low[count] = startLow;
+            value[count++] = x;
+        }
+    }
+
+    /**
+     * Flattens a search tree into a range table.
+     *
+     * @param tree the search tree as decoded by GEOIP_TREE_CACHE.
+     * @param segment the first value that is a leaf rather than a node.
+     * @param width the address width, 32 for IPv4 or 128 for IPv6.
+     * @return the range table.
+     */
+    static RangeTable build(int tree[], int segment, int width) {
+        Collector leaves = new Collector(tree, segment, width);
+        leaves.walk(0, 0, 0, 0);
+        RangeTable table = new RangeTable(width, leaves.count);
+        int rank = 0;
+        for (int i = table.first(); i != 0; i = table.next(i), rank++) {
+            long endHigh, endLow;
+            if (rank + 1 < leaves.count) {
+                endHigh = leaves.high[rank + 1];
+                endLow = leaves.low[rank + 1] - 1;
+                if (leaves.low[rank + 1] == 0) {
+                    endHigh--;
+                }
+            } else {
+                endHigh = width == 32 ? 0 : -1L;
+                endLow = width == 32 ? 0xFFFFFFFFL : -1L;
+            }
+            if (width == 32) {
+                table.starts[i] = (int) leaves.low[rank] ^ Integer.MIN_VALUE;
+                table.ends[i] = (int) endLow ^ Integer.MIN_VALUE;
+            } else {
+                table.startsHigh[i] = leaves.high[rank] ^ Long.MIN_VALUE;
+                table.startsLow[i] = leaves.low[rank] ^ Long.MIN_VALUE;
+                table.endsHigh[i] = endHigh ^ Long.MIN_VALUE;
+                table.endsLow[i] = endLow ^ Long.MIN_VALUE;
+            }
+            table.values[i] = leaves.value[rank];
+        }
+        return table;
+    }
+
+    /**
+     * Looks up an IPv4 address.
+     *
+     * @param ipAddress the address.
+     * @return the value in the low 32 bits and the netmask of the widest
+     *      network around the address with that value in the high 32 bits.
+     */
+    long seek(int ipAddress) {
+        int key = ipAddress ^ Integer.MIN_VALUE;
+        int n = size;
+        int k = 1;
+        while (k <= n) {
+            k = (k << 1) | (ends[k] < key ? 1 : 0);
+        }
+        k >>>= Integer.numberOfTrailingZeros(~k) + 1;
+        // A block of 2^n addresses around the address stays above the
+        // start of the range while n does not exceed the highest bit in
+        // which the address differs from start - 1, likewise for the end.
+        long address = ipAddress & 0xFFFFFFFFL;
+        int below = 63 - Long.numberOfLeadingZeros(address ^ (getStart(k) - 1));
+        int above = 63 - Long.numberOfLeadingZeros(address ^ (getEnd(k) + 1));
+        int netmask = 32 - Math.min(32, Math.min(below, above));
+        return ((long) netmask << 32) | (values[k] & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Looks up an IPv6 address.
+     *
+     * @param high the upper 64 bits of the address.
+     * @param low the lower 64 bits of the address.
+     * @return the value in the low 32 bits and the netmask of the widest
+     *      network around the address with that value in the high 32 bits.
+     */
+    long seek(long high, long low) {
+        long keyHigh = high ^ Long.MIN_VALUE;
+        long keyLow = low ^ Long.MIN_VALUE;
+        int n = size;
+        int k = 1;
+        while (k <= n) {
+            long h = endsHigh[k];
+            k = (k << 1) | (h < keyHigh || (h == keyHigh && endsLow[k] < keyLow) ? 1 : 0);
+        }
+        k >>>= Integer.numberOfTrailingZeros(~k) + 1;
+        // See seek(int), with the bounds split into two halves.
+        long startHigh = getStartHigh(k);
+        long startLow = getStartLow(k);
+        long endHigh = getEndHigh(k);
+        long endLow = getEndLow(k);
+        int below = highestBit(high ^ (startLow == 0 ? startHigh - 1 : startHigh), low ^ (startLow - 1));
+        int above = 128;
+        if ((endHigh & endLow) != -1L) {
+            above = highestBit(high ^ (endLow == -1L ? endHigh + 1 : endHigh), low ^ (endLow + 1));
+        }
+        int netmask = 128 - Math.min(128, Math.min(below, above));
+        return ((long) netmask << 32) | (values[k] & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Returns the position of the highest set bit of a 128 bit value.
+     */
+    private static int highestBit(long high, long low) {
+        if (high != 0) {
+            return 127 - Long.numberOfLeadingZeros(high);
+        }
+        return 63 - Long.numberOfLeadingZeros(low);
+    }
+
+    /**
+     * Returns the number of ranges.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the address width of the table, 32 for IPv4 or 128 for IPv6.
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Returns the position of the range with the lowest addresses.
+     *
+     * @return the position, or 0 if the table is empty.
+     */
+    public int first() {
+        if (size == 0) {
+            return 0;
+        }
+        int k = 1;
+        while (2 * k <= size) {
+            k = 2 * k;
+        }
+        return k;
+    }
+
+    /**
+     * Returns the position of the range following a range in address order.
+     *
+     * @param k the position of a range.
+     * @return the position of the next range, or 0 after the last range.
+     */
+    public int next(int k) {
+        if (2 * k + 1 <= size) {
+            k = 2 * k + 1;
+            while (2 * k <= size) {
+                k = 2 * k;
+            }
+            return k;
+        }
+        while ((k & 1) == 1) {
+            k >>>= 1;
+        }
+        return k >>> 1;
+    }
+
+    /**
+     * Returns the first address of an IPv4 range.
+     */
+    public long getStart(int k) {
+        return (starts[k] ^ Integer.MIN_VALUE) & 0xFFFFFFFFL;
+    }
+
+    /**
+     * Returns the last address of an IPv4 range.
+     */
+    public long getEnd(int k) {
+        return (ends[k] ^ Integer.MIN_VALUE) & 0xFFFFFFFFL;
+    }
+
+    /**
+     * Returns the upper 64 bits of the first address of an IPv6 range.
+     */
+    public long getStartHigh(int k) {
+        return startsHigh[k] ^ Long.MIN_VALUE;
+    }
+
+    /**
+     * Returns the lower 64 bits of the first address of an IPv6 range.
+     */
+    public long getStartLow(int k) {
+        return startsLow[k] ^ Long.MIN_VALUE;
+    }
+
+    /**
+     * Returns the upper 64 bits of the last address of an IPv6 range.
+     */
+    public long getEndHigh(int k) {
+        return endsHigh[k] ^ Long.MIN_VALUE;
+    }
+
+    /**
+     * Returns the lower 64 bits of the last address of an IPv6 range.
+     */
+    public long getEndLow(int k) {
+        return endsLow[k] ^ Long.MIN_VALUE;
+    }
+
+    /**
+     * Returns the search tree value of a range. For country databases this
+     * is COUNTRY_BEGIN plus the country index, for city and org databases
+     * the number of tree nodes plus the offset of the record.
+     */
+    public int getValue(int k) {
+        return values[k];
+    }
+
+    /**
+     * Returns the memory used by the table in bytes.
+     */
+    long memoryUsage() {
+        return (width == 32 ? 12L : 36L) * (size + 1);
+    }
+}
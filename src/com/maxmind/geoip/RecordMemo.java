@@ -0,0 +1,140 @@
+package com.maxmind.geoip;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded memo of decoded city, org, ISP or ASN records, keyed by record
+ * id. Many networks point to the same record, so a lookup that hits the
+ * memo costs one search tree walk and no decoding.<p>
+ *
+ * The memo is two-way set associative: each id may be in one of a pair of
+ * slots, and a new record takes the first slot of its pair, moving the
+ * record there to the second. Slots hold immutable entries, so lookups
+ * read and write them without locking; a record lost to a race is simply
+ * decoded again.
+ *
+ * @param <T> the type of the decoded records, CityRecord or Organization.
+ * @see com.maxmind.geoip.LookupService#getRecordMemo()
+ */
+public final class RecordMemo<T> {
+
+    /**
+     * The number of records held unless configured otherwise.
+     */
+    final static int DEFAULT_SIZE = 8192;
+
+    private static final class Entry<T> {
+        final int id;
+        final T record;
+
+        Entry(int id, T record) {
+            this.id = id;
+            this.record = record;
+        }
+    }
+
+    private final Entry<T> slots[];
+    private final int shift;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Creates a memo.
+     *
+     * @param size the number of records to hold, rounded up to a power of
+     *      two of at least 2.
+     */
+    RecordMemo(int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("A record memo needs at least one slot");
+        }
+        int bits = Math.max(1, 32 - Integer.numberOfLeadingZeros(size - 1));
+        slots = newSlots(1 << bits);
+        shift = 32 - bits;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Entry<T>[] newSlots(int n) {
+        return (Entry<T>[]) new Entry<?>[n];
+    }
+
+    private int slot(int id) {
+        // Fibonacci hashing spreads neighbouring ids over the pairs
+        return shift >= 32 ? 0 : ((id * 0x9E3779B9) >>> shift) & ~1;
+    }
+
+    /**
+     * Returns the record with an id.
+     *
+     * @return the record, or null if it is not in the memo.
+     */
+    T get(int id) {
+        int slot = slot(id);
+        Entry<T> entry = slots[slot];
+        if (entry == null || entry.id != id) {
+            entry = slots[slot + 1];
+        }
+        if (entry != null && entry.id == id) {
+            hits.increment();
+            return entry.record;
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * Stores a record, replacing the older one of its pair.
+     */
+    void put(int id, T record) {
+        int slot = slot(id);
+        Entry<T> first = slots[slot];
+        if (first != null && first.id != id) {
+            slots[slot + 1] = first;
+        }
+        slots[slot] = new Entry<T>(id, record);
+    }
+
+    /**
+     * Returns the number of lookups answered from the memo.
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of lookups that decoded the record.
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the fraction of lookups answered from the memo, 0 if there
+     * were none.
+     */
+    public double getHitRate() {
+        long h = hits.sum();
+        long total = h + misses.sum();
+        return total == 0 ? 0 : (double) h / total;
+    }
+
+    /**
+     * Returns the number of records in the memo.
+     */
+    public int size() {
+        int size = 0;
+        for (Entry<T> entry : slots) {
+            if (entry != null) {
+                size++;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Returns the maximum number of records in the memo.
+     */
+    public int getCapacity() {
+        return slots.length;
+    }
+}
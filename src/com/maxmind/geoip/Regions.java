@@ -0,0 +1,84 @@
+package com.maxmind.geoip;
+
+/**
+ * Every result a region database can give, built once. A region database
+ * stores an index into a fixed range for each network: a US or Canadian
+ * region code, or a country without a region. Each index maps to a Region
+ * built here, so lookups neither compute the region code nor build its
+ * strings. Region is mutable, so callers are handed a copy().
+ *
+ * @see com.maxmind.geoip.LookupService#getRegion(long)
+ */
+final class Regions {
+
+    // 26 * 26 two-letter region codes
+    private final static int CODES = 676;
+
+    private final static Region[] US = new Region[CODES];
+    private final static Region[] CANADA = new Region[CODES];
+    private final static Region[] COUNTRIES = new Region[LookupService.getCountryCount()];
+    private final static Region UNKNOWN = create("", "", "");
+
+    static {
+        for (int i = 0; i < CODES; i++) {
+            String code = new String(new char[] {(char) (i / 26 + 'A'), (char) (i % 26 + 'A')});
+            US[i] = create("US", "United States", code);
+            CANADA[i] = create("CA", "Canada", code);
+        }
+        for (int i = 0; i < COUNTRIES.length; i++) {
+            Country c = LookupService.getCountryById(i);
+            COUNTRIES[i] = create(c.getCode(), c.getName(), "");
+        }
+    }
+
+    private Regions() {
+    }
+
+    private static Region create(String countryCode, String countryName, String region) {
+        Region r = new Region();
+        r.countryCode = countryCode;
+        r.countryName = countryName;
+        r.region = region;
+        return r;
+    }
+
+    /**
+     * Returns a copy of a shared Region for a caller to keep.
+     */
+    static Region copy(Region shared) {
+        return create(shared.countryCode, shared.countryName, shared.region);
+    }
+
+    /**
+     * Returns the region of an index of a revision 0 region database.
+     *
+     * @param index the value found in the database minus STATE_BEGIN_REV0.
+     */
+    static Region rev0(int index) {
+        if (index >= 1000) {
+            return index - 1000 < CODES ? US[index - 1000] : UNKNOWN;
+        }
+        return index >= 0 && index < COUNTRIES.length ? COUNTRIES[index] : UNKNOWN;
+    }
+
+    /**
+     * Returns the region of an index of a revision 1 region database.
+     *
+     * @param index the value found in the database minus STATE_BEGIN_REV1.
+     * @param us the first index of the US regions.
+     * @param canada the first index of the Canadian regions.
+     * @param world the first index of the countries.
+     * @param fipsRange the number of indices per country.
+     */
+    static Region rev1(int index, int us, int canada, int world, int fipsRange) {
+        if (index < us) {
+            return UNKNOWN;
+        } else if (index < canada) {
+            return US[index - us];
+        } else if (index < world) {
+            return CANADA[index - canada];
+        }
+        int country = (index - world) / fipsRange;
+        return country < COUNTRIES.length ? COUNTRIES[country] : UNKNOWN;
+    }
+}
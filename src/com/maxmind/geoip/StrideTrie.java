@@ -0,0 +1,170 @@
+package com.maxmind.geoip;
+
+import java.util.Arrays;
+
+/**
+ * A multi-bit trie over the IPv6 search tree of a country database. Each
+ * level consumes a configurable number of address bits, so a lookup takes
+ * one array read per level instead of one node per bit.<p>
+ *
+ * A level of stride s is a block of 2^s entries. An entry is either the
+ * offset of the block of the next level, or, with the sign bit set, a leaf
+ * holding the netmask in bits 16-23 and the value minus the segment in bits
+ * 0-15. Networks that end between two levels are expanded into every entry
+ * they cover.
+ *
+ * @see com.maxmind.geoip.LookupService#GEOIP_STRIDE_TRIE
+ */
+final class StrideTrie {
+
+    /**
+     * The strides used unless configured otherwise: a 16 bit first level
+     * followed by 8 bit levels.
+     */
+    final static int DEFAULT_STRIDES[] = {16, 8, 8, 8, 8, 8, 8, 8, 8, 8, 8, 8, 8, 8, 8};
+
+    private final static int LEAF = 0x80000000;
+    private final static int MAX_STRIDE = 24;
+
+    private final int strides[];
+    private final int entries[];
+
+    private StrideTrie(int strides[], int entries[]) {
+        this.strides = strides;
+        this.entries = entries;
+    }
+
+    /**
+     * Checks that strides cover exactly 128 address bits with levels the
+     * trie can hold.
+     *
+     * @throws IllegalArgumentException if they do not.
+     */
+    static void checkStrides(int strides[]) {
+        int sum = 0;
+        for (int i = 0; i < strides.length; i++) {
+            if (strides[i] < 1 || strides[i] > MAX_STRIDE) {
+                throw new IllegalArgumentException("Strides must be between 1 and " + MAX_STRIDE + " bits");
+            }
+            sum += strides[i];
+        }
+        if (sum != 128) {
+            throw new IllegalArgumentException("Strides must add up to 128 bits");
+        }
+    }
+
+    /**
+     * Builds the trie while walking the binary search tree.
+     */
+    private static final class Builder {
+        final int tree[];
+        final int segment;
+        final int strides[];
+        int entries[] = new int[1 << 16];
+        int used = 0;
+
+        Builder(int tree[], int segment, int strides[]) {
+            this.tree = tree;
+            this.segment = segment;
+            this.strides = strides;
+        }
+
+        int allocate(int level) {
+            int size = 1 << strides[level];
+            while (used + size > entries.length) {
+                entries = Arrays.copyOf(entries, entries.length * 2);
+            }
+            int base = used;
+            used += size;
+            return base;
+        }
+
+        /**
+         * Fills the entries of a block from the binary nodes below it.
+         *
+         * @param node the binary node reached after bits address bits.
+         * @param depth the address bits consumed by the levels above.
+         * @param level the level of the block.
+         * @param base the offset of the block.
+         * @param bits the bits consumed inside the block.
+         * @param index those bits.
+         */
+        void fill(int node, int depth, int level, int base, int bits, int index) {
+            int stride = strides[level];
+            for (int bit = 0; bit < 2; bit++) {
+                int x = tree[(node << 1) | bit];
+                int b = bits + 1;
+                int i = (index << 1) | bit;
+                if (x >= segment || depth + b == 128) {
+                    // a malformed tree reaching /128 is treated as unknown
+                    int value = x >= segment ? x - segment : 0;
+                    if (value > 0xFFFF) {
+                        throw new IllegalStateException("Database values do not fit into a stride trie");
+                    }
+                    int leaf = LEAF | ((depth + b) << 16) | value;
+                    int start = base + (i << (stride - b));
+                    Arrays.fill(entries, start, start + (1 << (stride - b)), leaf);
+                } else if (b == stride) {
+                    int child = allocate(level + 1);
+                    entries[base + i] = child;
+                    fill(x, depth + stride, level + 1, child, 0, 0);
+                } else {
+                    fill(x, depth, level, base, b, i);
+                }
+            }
+        }
+    }
+
+    /**
+     * Expands a search tree into a stride trie.
+     *
+     * @param tree the search tree as decoded by GEOIP_TREE_CACHE.
+     * @param segment the first value that is a leaf rather than a node.
+     * @param strides the bits consumed by each level, adding up to 128.
+     * @return the trie.
+     */
+    static StrideTrie build(int tree[], int segment, int strides[]) {
+        checkStrides(strides);
+        Builder builder = new Builder(tree, segment, strides.clone());
+        builder.fill(0, 0, 0, builder.allocate(0), 0, 0);
+        return new StrideTrie(builder.strides, Arrays.copyOf(builder.entries, builder.used));
+    }
+
+    /**
+     * Looks up an IPv6 address.
+     *
+     * @param high the upper 64 bits of the address.
+     * @param low the lower 64 bits of the address.
+     * @return the value minus the segment in the low 32 bits and the netmask
+     *      in the high 32 bits.
+     */
+    long seek(long high, long low) {
+        int base = 0;
+        int depth = 0;
+        for (int level = 0; ; level++) {
+            int stride = strides[level];
+            int end = depth + stride;
+            long bits;
+            if (end <= 64) {
+                bits = high >>> (64 - end);
+            } else if (depth >= 64) {
+                bits = low >>> (128 - end);
+            } else {
+                bits = (high << (end - 64)) | (low >>> (128 - end));
+            }
+            int entry = entries[base + ((int) bits & ((1 << stride) - 1))];
+            if (entry < 0) {
+                return ((long) ((entry >>> 16) & 0xFF) << 32) | (entry & 0xFFFF);
+            }
+            base = entry;
+            depth = end;
+        }
+    }
+
+    /**
+     * Returns the memory used by the trie in bytes.
+     */
+    long memoryUsage() {
+        return 4L * entries.length;
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2011 Sebastian Köhler <sebkoehler@whoami.org.uk>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.org.whoami.geoip;
+
+/**
+ * A snapshot of the statistics of a lookup cache.
+ */
+public final class CacheStats {
+
+    private final long hits;
+    private final long misses;
+    private final long evictions;
+    private final int size;
+    private final int capacity;
+
+    CacheStats(long hits, long misses, long evictions, int size, int capacity) {
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+        this.size = size;
+        this.capacity = capacity;
+    }
+
+    /**
+     * @return The number of lookups answered from the cache
+     */
+    public long getHitCount() {
+        return hits;
+    }
+
+    /**
+     * @return The number of lookups that went to the database
+     */
+    public long getMissCount() {
+        return misses;
+    }
+
+    /**
+     * @return The number of entries evicted to make room for new ones
+     */
+    public long getEvictionCount() {
+        return evictions;
+    }
+
+    /**
+     * @return The fraction of lookups answered from the cache, 0 if there
+     * were none
+     */
+    public double getHitRate() {
+        long total = hits + misses;
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    /**
+     * @return The number of entries in the cache
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * @return The maximum number of entries in the cache
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d/%d entries, %d hits, %d misses (%.1f%%), %d evictions",
+                size, capacity, hits, misses, getHitRate() * 100, evictions);
+    }
+}
@@ -20,10 +20,21 @@ import uk.org.whoami.geoip.util.Settings;
 import com.maxmind.geoip.Country;
 import com.maxmind.geoip.Location;
 import com.maxmind.geoip.LookupService;
+import com.maxmind.geoip.Network;
+import com.maxmind.geoip.Organization;
+import com.maxmind.geoip.PageCache;
+import com.maxmind.geoip.Region;
+import com.maxmind.geoip.timeZone;
 import java.io.IOException;
 import java.net.Inet4Address;
 import java.net.Inet6Address;
 import java.net.InetAddress;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
 
 /**
  *
@@ -46,110 +57,728 @@ public class GeoIPLookup {
      */
     public final static int IPV6DATABASE = 300;
 
-    private LookupService geo = null;
-    private LookupService geov6 = null;
+    /**
+     * Bitmask for ASN database. An org or ISP database can be configured in
+     * its place.
+     */
+    public final static int ASNDATABASE = 400;
+
+    /**
+     * Bitmask for org database
+     */
+    public final static int ORGDATABASE = 500;
+
+    /**
+     * Bitmask for ISP database
+     */
+    public final static int ISPDATABASE = 600;
+
+    /**
+     * Bitmask for proxy database
+     */
+    public final static int PROXYDATABASE = 700;
+
+    /**
+     * Bitmask for net speed database
+     */
+    public final static int NETSPEEDDATABASE = 800;
+
+    /**
+     * Bitmask for region database
+     */
+    public final static int REGIONDATABASE = 900;
+
+    /* indices of the databases in Databases.editions */
+    private final static int ORG = 0;
+    private final static int ISP = 1;
+    private final static int PROXY = 2;
+    private final static int NETSPEED = 3;
+    private final static int REGION = 4;
+    private final static int EDITIONS = 5;
+
+    /* caches null results, which the cache can not hold */
+    private final static Location UNKNOWN_LOCATION = new Location();
+
+    /**
+     * The open databases and their caches. A snapshot is never modified,
+     * changes publish a new one, so readers always see a consistent set.
+     * Readers register in readers while they use a snapshot, so the
+     * databases it replaced can be closed once the last of them is done.
+     */
+    private static final class Databases {
+
+        final int type;
+        final LookupService geo;
+        final LookupService geov6;
+        final LookupService asn;
+        final LookupService[] editions;
+        final PrefixCache<Location> locationCache;
+        final SessionCache<Location> sessionCache;
+        final LongAdder readers = new LongAdder();
+
+        Databases(int type, LookupService geo, LookupService geov6,
+                LookupService asn, LookupService[] editions,
+                PrefixCache<Location> locationCache,
+                SessionCache<Location> sessionCache) {
+            this.type = type;
+            this.geo = geo;
+            this.geov6 = geov6;
+            this.asn = asn;
+            this.editions = editions;
+            this.locationCache = locationCache;
+            this.sessionCache = sessionCache;
+        }
+    }
+
+    private final AtomicReference<Databases> databases =
+            new AtomicReference<Databases>(new Databases(-1, null, null, null, new LookupService[EDITIONS], null, null));
     private Settings settings;
-    private int type;
 
     GeoIPLookup(Settings settings) throws IOException {
-        type = -1;
         this.settings = settings;
     }
 
+    /**
+     * Get the current databases and register as their reader. Must be
+     * followed by release().
+     */
+    private Databases acquire() {
+        for(;;) {
+            Databases d = databases.get();
+            d.readers.increment();
+            // a snapshot replaced before we registered may already be closed
+            if(databases.get() == d) {
+                return d;
+            }
+            d.readers.decrement();
+        }
+    }
+
+    private static void release(Databases d) {
+        d.readers.decrement();
+    }
+
+    /**
+     * Publish a new snapshot and close the databases of the old one that are
+     * not carried over, once no reader uses them anymore. Lookups are never
+     * blocked, they continue on the old snapshot until they are done.
+     */
+    private void publish(Databases next) {
+        Databases old = databases.getAndSet(next);
+        // park with a growing wait, up to a millisecond, instead of spinning
+        for(long wait = 1000; old.readers.sum() != 0; wait = Math.min(wait * 2, 1000000)) {
+            LockSupport.parkNanos(wait);
+        }
+        if(old.geo != null && old.geo != next.geo) {
+            old.geo.close();
+        }
+        if(old.geov6 != null && old.geov6 != next.geov6) {
+            old.geov6.close();
+        }
+        if(old.asn != null && old.asn != next.asn) {
+            old.asn.close();
+        }
+        for(int i = 0; i < old.editions.length; i++) {
+            if(old.editions[i] != null && old.editions[i] != next.editions[i]) {
+                old.editions[i].close();
+            }
+        }
+    }
+
     /**
      * Look up a Country in the database.
      *
      * @param inet Can be Inet4Address or Inet6Address
      * @return The country
      */
-    public synchronized Country getCountry(InetAddress inet) {
-        if(inet instanceof Inet4Address) {
-            if(geo != null) {
-                return geo.getCountry(inet);
-            } else {
-                ConsoleLogger.info("Uninitialised LookupService");
-                return new Country("--", "N/A");
+    public Country getCountry(InetAddress inet) {
+        Databases d = acquire();
+        try {
+            if(inet instanceof Inet4Address) {
+                if(d.geo != null) {
+                    return d.geo.getCountry(inet);
+                } else {
+                    ConsoleLogger.info("Uninitialised LookupService");
+                    return LookupService.getCountryById(0);
+                }
             }
-        }
-        if(inet instanceof Inet6Address) {
-            if(geov6 != null) {
-                return geov6.getCountryV6(inet);
-            } else {
-                ConsoleLogger.info("Uninitialised IPv6 LookupService");
-                return new Country("--", "N/A");
+            if(inet instanceof Inet6Address) {
+                if(d.geov6 != null) {
+                    return d.geov6.getCountryV6(inet);
+                } else {
+                    ConsoleLogger.info("Uninitialised IPv6 LookupService");
+                    return LookupService.getCountryById(0);
+                }
             }
+        } finally {
+            release(d);
         }
         //Will never be reached
         ConsoleLogger.info("I see you are using IPv5");
-        return new Country("--", "N/A");
+        return LookupService.getCountryById(0);
+    }
+
+    /**
+     * Look up the id of the Country of an IPv4 address without allocating.
+     * LookupService.getCountryById() maps the id to a shared Country.
+     *
+     * @param ipv4 The address, as returned by Inet4Address.hashCode()
+     * @return The country id, 0 if unknown
+     */
+    public short getCountryId(int ipv4) {
+        Databases d = acquire();
+        try {
+            if(d.geo != null) {
+                return d.geo.getCountryId(ipv4);
+            }
+        } finally {
+            release(d);
+        }
+        ConsoleLogger.info("Uninitialised LookupService");
+        return 0;
+    }
+
+    /**
+     * Look up the id of the Country of an IPv6 address without allocating.
+     *
+     * @param high The upper 64 bits of the address
+     * @param low The lower 64 bits of the address
+     * @return The country id, 0 if unknown
+     */
+    public short getCountryIdV6(long high, long low) {
+        Databases d = acquire();
+        try {
+            if(d.geov6 != null) {
+                return d.geov6.getCountryIdV6(high, low);
+            }
+        } finally {
+            release(d);
+        }
+        ConsoleLogger.info("Uninitialised IPv6 LookupService");
+        return 0;
+    }
+
+    /**
+     * Look up a Country in the database without allocating.
+     *
+     * @param ipv4 The address, as returned by Inet4Address.hashCode()
+     * @return The shared country instance
+     */
+    public Country getCountry(int ipv4) {
+        return LookupService.getCountryById(getCountryId(ipv4));
     }
 
     /**
      * Look up a Location in the database. The Object needs to be created with
      * the CITYDATABASE bitmask for this method wo work.
      *
+     * Results are cached per address and per network. Each call returns its
+     * own copy of the cached Location.
+     *
      * @param inet A Inet4Address
      * @return Location or null if the city database was not initialised
      */
-    public synchronized Location getLocation(InetAddress inet) {
+    public Location getLocation(InetAddress inet) {
         if(inet instanceof Inet4Address) {
-            if(geo != null) {
-                return geo.getLocation(inet);
-            } else {
-                ConsoleLogger.info("Uninitialised LookupService");
+            Databases d = acquire();
+            try {
+                if(d.geo != null) {
+                    return copy(d, cachedLocation(d, inet.hashCode()));
+                }
+            } finally {
+                release(d);
             }
+            ConsoleLogger.info("Uninitialised LookupService");
         } else if(inet instanceof Inet6Address) {
             ConsoleLogger.info("IPv6 is not supported for getLocation");
         }
         return null;
     }
 
+    /**
+     * Look up a Location through the session and network caches.
+     *
+     * @return The Location or null
+     */
+    private static Location cachedLocation(Databases d, int address) {
+        if(!isCached(d)) {
+            return d.geo.getLocation(address & 0xFFFFFFFFL);
+        }
+        Location location = d.sessionCache != null ? d.sessionCache.get(address) : null;
+        if(location == null) {
+            location = lookupLocation(d.geo, d.locationCache, address);
+            if(d.sessionCache != null) {
+                d.sessionCache.put(address, location);
+            }
+        }
+        return location != UNKNOWN_LOCATION ? location : null;
+    }
+
+    private static boolean isCached(Databases d) {
+        return d.sessionCache != null || d.locationCache != null;
+    }
+
+    /**
+     * Copy a Location that came from the caches, so callers can not change
+     * it for others. Without caches it is already the caller's own.
+     */
+    private static Location copy(Databases d, Location cached) {
+        if(cached == null || !isCached(d)) {
+            return cached;
+        }
+        Location location = new Location();
+        location.countryCode = cached.countryCode;
+        location.countryName = cached.countryName;
+        location.region = cached.region;
+        location.city = cached.city;
+        location.postalCode = cached.postalCode;
+        location.latitude = cached.latitude;
+        location.longitude = cached.longitude;
+        location.dma_code = cached.dma_code;
+        location.area_code = cached.area_code;
+        location.metro_code = cached.metro_code;
+        return location;
+    }
+
+    /**
+     * Look up a Location through the network cache.
+     *
+     * @return The Location or UNKNOWN_LOCATION
+     */
+    private static Location lookupLocation(LookupService geo, PrefixCache<Location> cache, int address) {
+        Location location = cache != null ? cache.get(address) : null;
+        if(location == null) {
+            Location[] record = new Location[1];
+            Network network = geo.getNetwork(address, record);
+            location = record[0];
+            if(location == null) {
+                location = UNKNOWN_LOCATION;
+            }
+            if(cache != null) {
+                cache.put(network, location);
+            }
+        }
+        return location;
+    }
+
+    /**
+     * Look up the region of an IPv4 address in the region database.
+     *
+     * @param inet The address
+     * @return The region or null if the region database was not
+     * initialised or the address is not IPv4
+     */
+    public Region getRegion(InetAddress inet) {
+        Databases d = acquire();
+        try {
+            LookupService regions = d.editions[REGION];
+            if(regions == null) {
+                ConsoleLogger.info("Uninitialised region LookupService");
+                return null;
+            }
+            if(inet instanceof Inet4Address) {
+                return regions.getRegion(inet.hashCode() & 0xFFFFFFFFL);
+            }
+            return null;
+        } finally {
+            release(d);
+        }
+    }
+
+    /**
+     * Look up the regions of many IPv4 addresses at once in the region
+     * database, for example of all online players.
+     *
+     * @param ipv4 The addresses, as returned by Inet4Address.hashCode()
+     * @param out Receives the region of each address at the same index
+     * @return false if the region database was not initialised
+     */
+    public boolean getRegions(int[] ipv4, Region[] out) {
+        Databases d = acquire();
+        try {
+            LookupService regions = d.editions[REGION];
+            if(regions == null) {
+                ConsoleLogger.info("Uninitialised region LookupService");
+                return false;
+            }
+            regions.getRegions(ipv4, out);
+            return true;
+        } finally {
+            release(d);
+        }
+    }
+
+    /**
+     * Look up the record of an IPv4 address in the ASN database. The record
+     * holds the AS number and name parsed once, so repeated lookups of the
+     * same network, e.g. for rate limiting logins, allocate nothing.
+     *
+     * @param inet The address
+     * @return The record or null if the address is unknown or not IPv4
+     */
+    public Organization getOrganization(InetAddress inet) {
+        Databases d = acquire();
+        try {
+            if(d.asn == null) {
+                ConsoleLogger.info("Uninitialised ASN LookupService");
+                return null;
+            }
+            if(inet instanceof Inet4Address) {
+                return d.asn.getOrganization(inet);
+            }
+            return null;
+        } finally {
+            release(d);
+        }
+    }
+
+    /**
+     * Look up the AS number of an IPv4 address in the ASN database.
+     *
+     * @param inet The address
+     * @return The AS number or 0 if it is unknown
+     */
+    public long getASNumber(InetAddress inet) {
+        Organization org = getOrganization(inet);
+        return org != null ? org.getAsNumber() : 0;
+    }
+
+    /**
+     * Look up an address in every loaded database at once. The address is
+     * converted once and all databases are read from one snapshot, so a
+     * single call replaces getCountry(), getLocation(), getOrganization()
+     * and so on.
+     *
+     * IPv6 addresses are only looked up in the IPv6 database, the others
+     * hold IPv4 addresses only.
+     *
+     * @param inet Can be Inet4Address or Inet6Address
+     * @return The answers, with null for databases that are not loaded
+     */
+    public GeoIPResult lookup(InetAddress inet) {
+        Databases d = acquire();
+        try {
+            if(inet instanceof Inet6Address) {
+                Country country = null;
+                if(d.geov6 != null) {
+                    country = countryV6(d.geov6, inet);
+                }
+                return new GeoIPResult(country, null, null, null, null, null, 0, 0);
+            }
+            int address = inet.hashCode();
+            long ipnum = address & 0xFFFFFFFFL;
+            Country country = null;
+            Location location = null;
+            if(d.geo != null) {
+                if(d.type == CITYDATABASE) {
+                    location = cachedLocation(d, address);
+                    country = location != null ?
+                            LookupService.getCountryByCode(location.countryCode) :
+                            LookupService.getCountryById(0);
+                } else {
+                    country = LookupService.getCountryById(d.geo.getCountryId(address));
+                }
+            }
+            LookupService[] e = d.editions;
+            return new GeoIPResult(country, copy(d, location),
+                    e[REGION] != null ? e[REGION].getRegion(ipnum) : null,
+                    d.asn != null ? d.asn.getOrganization(ipnum) : null,
+                    e[ORG] != null ? e[ORG].getOrganization(ipnum) : null,
+                    e[ISP] != null ? e[ISP].getOrganization(ipnum) : null,
+                    e[PROXY] != null ? e[PROXY].getID(ipnum) : 0,
+                    e[NETSPEED] != null ? e[NETSPEED].getID(ipnum) : 0);
+        } finally {
+            release(d);
+        }
+    }
+
+    private static Country countryV6(LookupService geov6, InetAddress inet) {
+        byte[] bytes = inet.getAddress();
+        long high = 0;
+        long low = 0;
+        for(int i = 0; i < 8; i++) {
+            high = (high << 8) | (bytes[i] & 0xFF);
+            low = (low << 8) | (bytes[i + 8] & 0xFF);
+        }
+        return LookupService.getCountryById(geov6.getCountryIdV6(high, low));
+    }
+
+    /**
+     * Look up the time zone of an address. With the city database the
+     * region is taken into account, otherwise only countries with a single
+     * time zone are known.
+     *
+     * @param inet Can be Inet4Address or Inet6Address
+     * @return The shared ZoneId or null if it is unknown
+     */
+    public ZoneId getZoneId(InetAddress inet) {
+        Databases d = acquire();
+        try {
+            return zoneOf(d, inet);
+        } finally {
+            release(d);
+        }
+    }
+
+    /**
+     * Compute the current local time and UTC offset of many addresses at
+     * once, for example of all online players. The offset of each time
+     * zone is computed once per call.
+     *
+     * @param players The addresses, can be Inet4Address or Inet6Address
+     * @param out Receives the local time of each address at the same index,
+     * or null if its time zone is unknown
+     */
+    public void getLocalTimes(InetAddress[] players, OffsetDateTime[] out) {
+        ZoneId[] zones = new ZoneId[players.length];
+        Databases d = acquire();
+        try {
+            for(int i = 0; i < players.length; i++) {
+                zones[i] = zoneOf(d, players[i]);
+            }
+        } finally {
+            release(d);
+        }
+        timeZone.localTimes(zones, Instant.now(), out);
+    }
+
+    private static ZoneId zoneOf(Databases d, InetAddress inet) {
+        if(inet instanceof Inet6Address) {
+            return d.geov6 != null ?
+                    timeZone.zoneIdByCountryAndRegion(countryV6(d.geov6, inet).getCode(), null) : null;
+        }
+        if(d.geo == null) {
+            return null;
+        }
+        int address = inet.hashCode();
+        if(d.type == CITYDATABASE) {
+            Location location = cachedLocation(d, address);
+            return location != null ?
+                    timeZone.zoneIdByCountryAndRegion(location.countryCode, location.region) : null;
+        }
+        String country = LookupService.getCountryById(d.geo.getCountryId(address)).getCode();
+        return timeZone.zoneIdByCountryAndRegion(country, null);
+    }
+
+    /**
+     * Get the statistics of the city lookup cache. They start over when the
+     * database is reloaded.
+     *
+     * @return The statistics or null if the cache is disabled
+     */
+    public CacheStats getCacheStats() {
+        PrefixCache<Location> cache = databases.get().locationCache;
+        return cache != null ? cache.getStats() : null;
+    }
+
+    /**
+     * Get the statistics of the city session cache, which holds the
+     * addresses looked up most often. They start over when the database is
+     * reloaded.
+     *
+     * @return The statistics or null if the cache is disabled
+     */
+    public CacheStats getSessionCacheStats() {
+        SessionCache<Location> sessions = databases.get().sessionCache;
+        return sessions != null ? sessions.getStats() : null;
+    }
+
+    /**
+     * Get the statistics of the record page cache of the country or city
+     * database. They start over when the database is reloaded.
+     *
+     * @return The statistics or null if the cache is not in use
+     */
+    public CacheStats getPageCacheStats() {
+        LookupService geo = databases.get().geo;
+        PageCache pages = geo != null ? geo.getPageCache() : null;
+        if(pages == null) {
+            return null;
+        }
+        return new CacheStats(pages.getHitCount(), pages.getMissCount(),
+                pages.getEvictionCount(), pages.size(), pages.getCapacity());
+    }
+
+    /**
+     * Open a database with the configured options. GEOIP_CHECK_CACHE is
+     * never set: a service reloading itself would leave the caches of its
+     * snapshot answering from the old file. Updates are published as a new
+     * snapshot with new caches instead.
+     */
+    private LookupService open(String path) throws IOException {
+        int options = settings.getDatabaseOptions() & ~LookupService.GEOIP_CHECK_CACHE;
+        LookupService service = new LookupService(path, options);
+        if((options & LookupService.GEOIP_PAGE_CACHE) != 0) {
+            service.setPageCacheSize(settings.getPageCacheSize());
+        }
+        return service;
+    }
+
+    private PrefixCache<Location> createLocationCache() {
+        int size = settings.getPrefixCacheSize();
+        return size > 0 ? new PrefixCache<Location>(size) : null;
+    }
+
+    /**
+     * Create a session cache holding the addresses of an old one looked up
+     * in the new database, so online players do not all miss at once after
+     * a reload.
+     */
+    private SessionCache<Location> createSessionCache(SessionCache<Location> old,
+            LookupService geo, PrefixCache<Location> cache) {
+        int size = settings.getSessionCacheSize();
+        if(size <= 0) {
+            return null;
+        }
+        SessionCache<Location> sessions = new SessionCache<Location>(size);
+        if(old != null) {
+            for(int address : old.addresses()) {
+                sessions.put(address, lookupLocation(geo, cache, address));
+            }
+        }
+        return sessions;
+    }
+
+    /* Writers are serialised by the monitor, readers never take it. */
+
     synchronized void initCountry() throws IOException {
-        if(type == -1) {
-            geo = new LookupService(settings.getCountryDatabasePath(),LookupService.GEOIP_MEMORY_CACHE);
-            type = COUNTRYDATABASE;
+        Databases d = databases.get();
+        if(d.type == -1) {
+            LookupService geo = open(settings.getCountryDatabasePath());
+            publish(new Databases(COUNTRYDATABASE, geo, d.geov6, d.asn, d.editions, null, null));
         }
     }
 
     synchronized void initCity() throws IOException {
-        if(type == COUNTRYDATABASE || type == -1) {
-            if(type != -1) {
-                geo.close();
-            }
-            geo = new LookupService(settings.getCityDatabasePath(),LookupService.GEOIP_MEMORY_CACHE);
-            type = CITYDATABASE;
+        Databases d = databases.get();
+        if(d.type == COUNTRYDATABASE || d.type == -1) {
+            LookupService geo = open(settings.getCityDatabasePath());
+            PrefixCache<Location> cache = createLocationCache();
+            publish(new Databases(CITYDATABASE, geo, d.geov6, d.asn, d.editions, cache,
+                    createSessionCache(null, geo, cache)));
         }
     }
 
     synchronized void initIPv6() throws IOException {
-        if(geov6 == null) {
-            geov6 = new LookupService(settings.getIPv6DatabasePath(),LookupService.GEOIP_MEMORY_CACHE);
+        Databases d = databases.get();
+        if(d.geov6 == null) {
+            LookupService geov6 = open(settings.getIPv6DatabasePath());
+            publish(new Databases(d.type, d.geo, geov6, d.asn, d.editions, d.locationCache, d.sessionCache));
+        }
+    }
+
+    synchronized void initASN() throws IOException {
+        Databases d = databases.get();
+        if(d.asn == null) {
+            LookupService asn = open(settings.getASNDatabasePath());
+            publish(new Databases(d.type, d.geo, d.geov6, asn, d.editions, d.locationCache, d.sessionCache));
+        }
+    }
+
+    /**
+     * Open the org, ISP, proxy, net speed or region database.
+     */
+    synchronized void initEdition(int database) throws IOException {
+        Databases d = databases.get();
+        int index = editionIndex(database);
+        if(d.editions[index] == null) {
+            LookupService[] editions = d.editions.clone();
+            editions[index] = open(editionPath(database));
+            publish(new Databases(d.type, d.geo, d.geov6, d.asn, editions, d.locationCache, d.sessionCache));
+        }
+    }
+
+    private static int editionIndex(int database) {
+        switch(database) {
+            case ORGDATABASE:
+                return ORG;
+            case ISPDATABASE:
+                return ISP;
+            case PROXYDATABASE:
+                return PROXY;
+            case NETSPEEDDATABASE:
+                return NETSPEED;
+            case REGIONDATABASE:
+                return REGION;
+            default:
+                throw new IllegalArgumentException("Unsupported database " + database);
         }
     }
-    
+
+    private String editionPath(int database) {
+        switch(database) {
+            case ORGDATABASE:
+                return settings.getOrgDatabasePath();
+            case ISPDATABASE:
+                return settings.getISPDatabasePath();
+            case PROXYDATABASE:
+                return settings.getProxyDatabasePath();
+            case NETSPEEDDATABASE:
+                return settings.getNetSpeedDatabasePath();
+            default:
+                return settings.getRegionDatabasePath();
+        }
+    }
+
+    /**
+     * Load the databases again and swap them in. Lookups keep using the old
+     * databases until the new ones are ready, and the old ones are closed
+     * once the last lookup using them is done. If loading fails the old
+     * databases stay in use.
+     */
     synchronized void reload() throws IOException {
-        if(geo != null) {
-            geo.close();
-            if(type == COUNTRYDATABASE) {
-                geo = new LookupService(settings.getCountryDatabasePath(),LookupService.GEOIP_MEMORY_CACHE);
-            } else {
-                geo = new LookupService(settings.getCityDatabasePath(),LookupService.GEOIP_MEMORY_CACHE);
+        Databases d = databases.get();
+        LookupService geo = null;
+        LookupService geov6 = null;
+        LookupService asn = null;
+        LookupService[] editions = new LookupService[d.editions.length];
+        try {
+            if(d.geo != null) {
+                if(d.type == COUNTRYDATABASE) {
+                    geo = open(settings.getCountryDatabasePath());
+                } else {
+                    geo = open(settings.getCityDatabasePath());
+                }
+            }
+            if(d.geov6 != null) {
+                geov6 = open(settings.getIPv6DatabasePath());
+            }
+            if(d.asn != null) {
+                asn = open(settings.getASNDatabasePath());
+            }
+            for(int database = ORGDATABASE; database <= REGIONDATABASE; database += 100) {
+                int index = editionIndex(database);
+                if(d.editions[index] != null) {
+                    editions[index] = open(editionPath(database));
+                }
+            }
+        } catch(IOException e) {
+            if(geo != null) {
+                geo.close();
             }
+            if(geov6 != null) {
+                geov6.close();
+            }
+            if(asn != null) {
+                asn.close();
+            }
+            for(LookupService edition : editions) {
+                if(edition != null) {
+                    edition.close();
+                }
+            }
+            throw e;
         }
-        if(geov6 != null) {
-            geov6.close();
-            geov6 = new LookupService(settings.getIPv6DatabasePath(),LookupService.GEOIP_MEMORY_CACHE);
+        PrefixCache<Location> cache = null;
+        SessionCache<Location> sessions = null;
+        if(d.type == CITYDATABASE) {
+            cache = createLocationCache();
+            sessions = createSessionCache(d.sessionCache, geo, cache);
         }
+        publish(new Databases(d.type, geo, geov6, asn, editions, cache, sessions));
     }
 
     synchronized void close() {
-        if(geo != null) {
-            geo.close();
-            geo = null;
-        }
-        if(geov6 != null) {
-            geov6.close();
-            geov6 = null;
-        }
+        publish(new Databases(-1, null, null, null, new LookupService[EDITIONS], null, null));
     }
 }
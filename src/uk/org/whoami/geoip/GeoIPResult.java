@@ -0,0 +1,116 @@
+/*
+ * Copyright 2011 Sebastian Köhler <sebkoehler@whoami.org.uk>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.org.whoami.geoip;
+
+import com.maxmind.geoip.Country;
+import com.maxmind.geoip.Location;
+import com.maxmind.geoip.Organization;
+import com.maxmind.geoip.Region;
+
+/**
+ * The answers of every loaded database for one address, as returned by
+ * GeoIPLookup.lookup(). Fields of databases that are not loaded are null,
+ * or 0 for the proxy type and the net speed.
+ */
+public final class GeoIPResult {
+
+    private final Country country;
+    private final Location location;
+    private final Region region;
+    private final Organization asn;
+    private final Organization org;
+    private final Organization isp;
+    private final int proxyType;
+    private final int netSpeed;
+
+    GeoIPResult(Country country, Location location, Region region,
+            Organization asn, Organization org, Organization isp,
+            int proxyType, int netSpeed) {
+        this.country = country;
+        this.location = location;
+        this.region = region;
+        this.asn = asn;
+        this.org = org;
+        this.isp = isp;
+        this.proxyType = proxyType;
+        this.netSpeed = netSpeed;
+    }
+
+    /**
+     * @return The country, from the country, city or IPv6 database
+     */
+    public Country getCountry() {
+        return country;
+    }
+
+    /**
+     * @return The location from the city database
+     */
+    public Location getLocation() {
+        return location;
+    }
+
+    /**
+     * @return The region from the region database
+     */
+    public Region getRegion() {
+        return region;
+    }
+
+    /**
+     * @return The record of the ASN database
+     */
+    public Organization getASN() {
+        return asn;
+    }
+
+    /**
+     * @return The AS number or 0 if it is unknown
+     */
+    public long getASNumber() {
+        return asn != null ? asn.getAsNumber() : 0;
+    }
+
+    /**
+     * @return The record of the org database
+     */
+    public Organization getOrganization() {
+        return org;
+    }
+
+    /**
+     * @return The record of the ISP database
+     */
+    public Organization getISP() {
+        return isp;
+    }
+
+    /**
+     * @return The proxy type of the proxy database, 0 if the address is not
+     * a known proxy
+     */
+    public int getProxyType() {
+        return proxyType;
+    }
+
+    /**
+     * @return The net speed of the net speed database, one of the
+     * LookupService.GEOIP_*_SPEED constants
+     */
+    public int getNetSpeed() {
+        return netSpeed;
+    }
+}
@@ -91,6 +91,9 @@ public class GeoIPTools extends JavaPlugin {
      *
      * You can not combine GeoIPLookup.COUNTRYDATABASE|GeoIPLookup.CITYDATABASE
      *
+     * GeoIPLookup.ASNDATABASE can not be combined, call this method once more
+     * to add it to the returned GeoIPLookup.
+     *
      * @param bitmask Bitmask to specify the funtionality
      * @return A GeoIPLookup or null if the bitmask is wrong or an error occurs
      */
@@ -111,6 +114,8 @@ public class GeoIPTools extends JavaPlugin {
             } else if (bitmask == (GeoIPLookup.CITYDATABASE | GeoIPLookup.IPV6DATABASE)) {
                 geo.initCity();
                 geo.initIPv6();
+            } else if (bitmask == GeoIPLookup.ASNDATABASE) {
+                geo.initASN();
             } else {
                 ConsoleLogger.info("Unsupported bitmask");
                 return null;
@@ -122,4 +127,64 @@ public class GeoIPTools extends JavaPlugin {
         }
         return geo;
     }
+
+    /**
+     * Get a GeoIPLookup holding all of the given databases, so that
+     * GeoIPLookup.lookup() answers them all in one call.
+     *
+     * Unlike getGeoIPLookup(int) any databases can be combined, for example:
+     * getCompositeLookup(GeoIPLookup.CITYDATABASE, GeoIPLookup.ASNDATABASE,
+     * GeoIPLookup.PROXYDATABASE);
+     *
+     * If both GeoIPLookup.COUNTRYDATABASE and GeoIPLookup.CITYDATABASE are
+     * given, only the city database is loaded, it holds the country as well.
+     *
+     * @param databases The databases to load
+     * @return A GeoIPLookup or null if a database is unknown or an error
+     * occurs
+     */
+    public GeoIPLookup getCompositeLookup(int... databases) {
+        boolean city = false;
+        for (int database : databases) {
+            city |= database == GeoIPLookup.CITYDATABASE;
+        }
+        try {
+            if (geo == null) {
+                geo = new GeoIPLookup(settings);
+            }
+            for (int database : databases) {
+                switch (database) {
+                    case GeoIPLookup.COUNTRYDATABASE:
+                        if (!city) {
+                            geo.initCountry();
+                        }
+                        break;
+                    case GeoIPLookup.CITYDATABASE:
+                        geo.initCity();
+                        break;
+                    case GeoIPLookup.IPV6DATABASE:
+                        geo.initIPv6();
+                        break;
+                    case GeoIPLookup.ASNDATABASE:
+                        geo.initASN();
+                        break;
+                    case GeoIPLookup.ORGDATABASE:
+                    case GeoIPLookup.ISPDATABASE:
+                    case GeoIPLookup.PROXYDATABASE:
+                    case GeoIPLookup.NETSPEEDDATABASE:
+                    case GeoIPLookup.REGIONDATABASE:
+                        geo.initEdition(database);
+                        break;
+                    default:
+                        ConsoleLogger.info("Unsupported database " + database);
+                        return null;
+                }
+            }
+        } catch (IOException e) {
+            ConsoleLogger.info("Can't load database");
+            ConsoleLogger.info(e.getMessage());
+            return null;
+        }
+        return geo;
+    }
 }
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2011 Sebastian Köhler <sebkoehler@whoami.org.uk>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.org.whoami.geoip;
+
+import com.maxmind.geoip.Network;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A bounded LRU cache of lookup results keyed by the IPv4 network they were
+ * found for. Any address inside a cached network is answered without
+ * touching the database. The networks of one database never overlap, so a
+ * lookup probes each prefix length present in the cache until one matches.
+ * The cached networks are counted per prefix length, so a length is no
+ * longer probed once its last network has been evicted.
+ *
+ * The cache is split into stripes with their own lock and LRU order.
+ * It is never told about a new database, so it must be filled from a
+ * LookupService opened without GEOIP_CHECK_CACHE and dropped together
+ * with it.
+ */
+final class PrefixCache<V> {
+
+    private final static int STRIPES = 16;
+
+    private static final class Stripe<V> extends LinkedHashMap<Long, V> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int capacity;
+        private final PrefixCache<V> cache;
+
+        Stripe(int capacity, PrefixCache<V> cache) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+            this.cache = cache;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, V> eldest) {
+            if (size() > capacity) {
+                cache.evicted((int) (eldest.getKey() & 63));
+                return true;
+            }
+            return false;
+        }
+    }
+
+    private final Stripe<V>[] stripes;
+    private final int capacity;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    // the number of cached networks of each prefix length, guarded by this
+    private final int[] counts = new int[33];
+    // bit n is set while a network with prefix length n is cached
+    private volatile long lengths = 0;
+
+    PrefixCache(int capacity) {
+        this.capacity = capacity;
+        stripes = newStripes(STRIPES);
+        for(int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe<V>(Math.max(1, (capacity + STRIPES - 1) / STRIPES), this);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V> Stripe<V>[] newStripes(int n) {
+        return (Stripe<V>[]) new Stripe<?>[n];
+    }
+
+    private static long key(int address, int prefixLength) {
+        int mask = prefixLength == 0 ? 0 : -1 << (32 - prefixLength);
+        return ((address & mask & 0xFFFFFFFFL) << 6) | prefixLength;
+    }
+
+    private Stripe<V> stripe(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return stripes[(int) (h >>> 60)];
+    }
+
+    /**
+     * Look up the cached result for the network an address is in.
+     *
+     * @param address The address, as returned by Inet4Address.hashCode()
+     * @return The result or null if the network is not cached
+     */
+    V get(int address) {
+        long remaining = lengths;
+        while(remaining != 0) {
+            int prefixLength = 63 - Long.numberOfLeadingZeros(remaining);
+            remaining &= ~(1L << prefixLength);
+            long key = key(address, prefixLength);
+            Stripe<V> stripe = stripe(key);
+            V value;
+            synchronized(stripe) {
+                value = stripe.get(key);
+            }
+            if(value != null) {
+                hits.incrementAndGet();
+                return value;
+            }
+        }
+        misses.incrementAndGet();
+        return null;
+    }
+
+    /**
+     * Cache the result for a network.
+     *
+     * @param network An IPv4 network as returned by LookupService.getNetwork()
+     * @param value The result, not null
+     */
+    void put(Network network, V value) {
+        int prefixLength = network.getPrefixLength();
+        long key = key((int) network.getAddress(), prefixLength);
+        Stripe<V> stripe = stripe(key);
+        synchronized(stripe) {
+            if(stripe.put(key, value) == null) {
+                added(prefixLength);
+            }
+        }
+    }
+
+    private synchronized void added(int prefixLength) {
+        if(counts[prefixLength]++ == 0) {
+            lengths |= 1L << prefixLength;
+        }
+    }
+
+    private synchronized void evicted(int prefixLength) {
+        evictions.incrementAndGet();
+        if(--counts[prefixLength] == 0) {
+            lengths &= ~(1L << prefixLength);
+        }
+    }
+
+    CacheStats getStats() {
+        int size = 0;
+        for(Stripe<V> stripe : stripes) {
+            synchronized(stripe) {
+                size += stripe.size();
+            }
+        }
+        return new CacheStats(hits.get(), misses.get(), evictions.get(), size, capacity);
+    }
+}
@@ -0,0 +1,246 @@
+/*
+ * Copyright 2011 Sebastian Köhler <sebkoehler@whoami.org.uk>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.org.whoami.geoip;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A bounded cache of lookup results keyed by IPv4 address, meant for the
+ * addresses of online players that are looked up over and over.
+ *
+ * Eviction follows W-TinyLFU: new entries go into a small LRU window.
+ * Entries falling out of the window only enter the main LRU area if they
+ * have been requested more often than the entry they would evict there,
+ * judged by a count-min sketch of recent request frequencies. A scan of
+ * one-off addresses therefore can not flush frequently used entries.
+ *
+ * The cache is split into stripes with their own lock, window, main area
+ * and sketch.
+ */
+final class SessionCache<V> {
+
+    private final static int STRIPES = 16;
+    // the least entries a window holds, so new addresses have a chance to
+    // be requested again before they compete for the main area
+    private final static int MIN_WINDOW = 8;
+
+    private static final class Stripe<V> {
+
+        final LinkedHashMap<Integer, V> window = new LinkedHashMap<Integer, V>(16, 0.75f, true);
+        final LinkedHashMap<Integer, V> main = new LinkedHashMap<Integer, V>(16, 0.75f, true);
+        final int windowCapacity;
+        final int mainCapacity;
+        final FrequencySketch sketch;
+
+        Stripe(int capacity, int windowCapacity) {
+            this.windowCapacity = windowCapacity;
+            mainCapacity = Math.max(1, capacity - windowCapacity);
+            sketch = new FrequencySketch(capacity);
+        }
+    }
+
+    /**
+     * A count-min sketch of 4 bit counters, four per key, packed sixteen to
+     * a long. All counters are halved once the number of increments reaches
+     * ten times the table size, so old popularity fades.
+     */
+    private static final class FrequencySketch {
+
+        private final static long[] SEEDS = {
+            0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L,
+            0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+
+        private final long[] table;
+        private final int mask;
+        private final int sampleSize;
+        private int additions = 0;
+
+        FrequencySketch(int capacity) {
+            int size = Integer.highestOneBit(Math.max(16, capacity - 1) << 1);
+            table = new long[size];
+            mask = size - 1;
+            sampleSize = 10 * size;
+        }
+
+        private int index(int key, int i) {
+            long h = (key + SEEDS[i]) * SEEDS[i];
+            h += h >>> 32;
+            return (int) h & mask;
+        }
+
+        private static int shift(int key, int i) {
+            return ((key >>> (i << 3)) & 15) << 2;
+        }
+
+        int frequency(int key) {
+            int frequency = 15;
+            for(int i = 0; i < 4; i++) {
+                int count = (int) (table[index(key, i)] >>> shift(key, i)) & 15;
+                frequency = Math.min(frequency, count);
+            }
+            return frequency;
+        }
+
+        void increment(int key) {
+            boolean added = false;
+            for(int i = 0; i < 4; i++) {
+                int index = index(key, i);
+                int shift = shift(key, i);
+                if(((table[index] >>> shift) & 15) != 15) {
+                    table[index] += 1L << shift;
+                    added = true;
+                }
+            }
+            if(added && ++additions == sampleSize) {
+                for(int i = 0; i < table.length; i++) {
+                    table[i] = (table[i] >>> 1) & 0x7777777777777777L;
+                }
+                additions /= 2;
+            }
+        }
+    }
+
+    private final Stripe<V>[] stripes;
+    private final int capacity;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    SessionCache(int capacity) {
+        this.capacity = capacity;
+        int stripeCapacity = Math.max(1, (capacity + STRIPES - 1) / STRIPES);
+        // 1% of the whole cache, but never less than MIN_WINDOW or more
+        // than half a stripe
+        int window = Math.max(MIN_WINDOW, (capacity / 100 + STRIPES - 1) / STRIPES);
+        window = Math.max(1, Math.min(window, stripeCapacity / 2));
+        stripes = newStripes(STRIPES);
+        for(int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe<V>(stripeCapacity, window);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V> Stripe<V>[] newStripes(int n) {
+        return (Stripe<V>[]) new Stripe<?>[n];
+    }
+
+    private static int spread(int address) {
+        int h = address * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private Stripe<V> stripe(int key) {
+        return stripes[key >>> 28];
+    }
+
+    /**
+     * Look up the cached result for an address. Every call counts towards
+     * the frequency of the address, hit or miss.
+     *
+     * @param address The address, as returned by Inet4Address.hashCode()
+     * @return The result or null if the address is not cached
+     */
+    V get(int address) {
+        int key = spread(address);
+        Stripe<V> stripe = stripe(key);
+        V value;
+        synchronized(stripe) {
+            stripe.sketch.increment(key);
+            value = stripe.window.get(address);
+            if(value == null) {
+                value = stripe.main.get(address);
+            }
+        }
+        if(value != null) {
+            hits.incrementAndGet();
+        } else {
+            misses.incrementAndGet();
+        }
+        return value;
+    }
+
+    /**
+     * Cache the result for an address.
+     *
+     * @param address The address, as returned by Inet4Address.hashCode()
+     * @param value The result, not null
+     */
+    void put(int address, V value) {
+        int key = spread(address);
+        Stripe<V> stripe = stripe(key);
+        synchronized(stripe) {
+            if(stripe.main.containsKey(address)) {
+                stripe.main.put(address, value);
+                return;
+            }
+            stripe.window.put(address, value);
+            if(stripe.window.size() <= stripe.windowCapacity) {
+                return;
+            }
+            Iterator<Map.Entry<Integer, V>> it = stripe.window.entrySet().iterator();
+            Map.Entry<Integer, V> candidate = it.next();
+            it.remove();
+            if(stripe.main.size() < stripe.mainCapacity) {
+                stripe.main.put(candidate.getKey(), candidate.getValue());
+                return;
+            }
+            it = stripe.main.entrySet().iterator();
+            Map.Entry<Integer, V> victim = it.next();
+            int candidateKey = spread(candidate.getKey());
+            int victimKey = spread(victim.getKey());
+            if(stripe.sketch.frequency(candidateKey) > stripe.sketch.frequency(victimKey)) {
+                it.remove();
+                stripe.main.put(candidate.getKey(), candidate.getValue());
+            }
+            evictions.incrementAndGet();
+        }
+    }
+
+    /**
+     * @return The cached addresses
+     */
+    int[] addresses() {
+        int[] addresses = new int[0];
+        int n = 0;
+        for(Stripe<V> stripe : stripes) {
+            synchronized(stripe) {
+                int size = stripe.window.size() + stripe.main.size();
+                addresses = Arrays.copyOf(addresses, n + size);
+                for(Integer address : stripe.main.keySet()) {
+                    addresses[n++] = address;
+                }
+                for(Integer address : stripe.window.keySet()) {
+                    addresses[n++] = address;
+                }
+            }
+        }
+        return addresses;
+    }
+
+    CacheStats getStats() {
+        int size = 0;
+        for(Stripe<V> stripe : stripes) {
+            synchronized(stripe) {
+                size += stripe.window.size() + stripe.main.size();
+            }
+        }
+        return new CacheStats(hits.get(), misses.get(), evictions.get(), size, capacity);
+    }
+}
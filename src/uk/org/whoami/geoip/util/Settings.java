@@ -15,6 +15,7 @@
  */
 package uk.org.whoami.geoip.util;
 
+import com.maxmind.geoip.LookupService;
 import org.bukkit.util.config.Configuration;
 
 public class Settings {
@@ -22,6 +23,12 @@ public class Settings {
     final String CITYDATABASEPATH = "./plugins/GeoIPTools/GeoLiteCity.dat";
     final String COUNTRYDATABASEPATH = "./plugins/GeoIPTools/GeoIP.dat";
     final String IPV6DATABASEBATH = "./plugins/GeoIPTools/GeoIPv6.dat";
+    final String ASNDATABASEPATH = "./plugins/GeoIPTools/GeoIPASNum.dat";
+    final String ORGDATABASEPATH = "./plugins/GeoIPTools/GeoIPOrg.dat";
+    final String ISPDATABASEPATH = "./plugins/GeoIPTools/GeoIPISP.dat";
+    final String PROXYDATABASEPATH = "./plugins/GeoIPTools/GeoIPProxy.dat";
+    final String NETSPEEDDATABASEPATH = "./plugins/GeoIPTools/GeoIPNetSpeed.dat";
+    final String REGIONDATABASEPATH = "./plugins/GeoIPTools/GeoIPRegion.dat";
     private Configuration conf;
 
     public Settings(Configuration conf) {
@@ -34,8 +41,13 @@ public class Settings {
         getIPv6DatabaseURL();
         getCityDatabaseURL();
         getCountryDatabaseURL();
+        getASNDatabaseURL();
         getLastUpdated();
         isUpdaterDisabled();
+        getDatabaseOptions();
+        getPrefixCacheSize();
+        getSessionCacheSize();
+        getPageCacheSize();
         conf.save();
     }
     
@@ -87,6 +99,112 @@ public class Settings {
         return conf.getString(key);
     }
 
+    public String getASNDatabaseURL() {
+        String key = "URL.ASNDatabase";
+        if(conf.getString(key) == null) {
+            conf.setProperty(key,
+                    "http://geolite.maxmind.com/download/geoip/database/asnum/GeoIPASNum.dat.gz");
+        }
+        return conf.getString(key);
+    }
+
+    /**
+     * Get the LookupService options used to open the databases. The setting
+     * is a comma separated list of:
+     * memory - load the database into the heap
+     * mmap - map the database file into memory
+     * preload - page the mapped file in while loading
+     * index - keep only the search tree in the heap
+     * tree - decode the search tree into an int array
+     * direct - expand country databases into a direct index (about 32MB)
+     * ranges - flatten the search tree into a sorted range table
+     * stride - expand IPv6 databases into a multi-bit trie
+     * offheap - like memory, but keep the database outside the heap
+     * pages - cache the record pages read most often when records are read
+     * from disk
+     * columnar - decode every city record into arrays while loading
+     *
+     * @return The options for the LookupService constructor
+     */
+    public int getDatabaseOptions() {
+        String key = "Database.options";
+        if(conf.getString(key) == null) {
+            conf.setProperty(key, "memory");
+        }
+        int options = LookupService.GEOIP_STANDARD;
+        for(String option : conf.getString(key).split(",")) {
+            option = option.trim();
+            if(option.equalsIgnoreCase("memory")) {
+                options |= LookupService.GEOIP_MEMORY_CACHE;
+            } else if(option.equalsIgnoreCase("mmap")) {
+                options |= LookupService.GEOIP_MMAP_CACHE;
+            } else if(option.equalsIgnoreCase("preload")) {
+                options |= LookupService.GEOIP_MMAP_PRELOAD;
+            } else if(option.equalsIgnoreCase("index")) {
+                options |= LookupService.GEOIP_INDEX_CACHE;
+            } else if(option.equalsIgnoreCase("tree")) {
+                options |= LookupService.GEOIP_TREE_CACHE;
+            } else if(option.equalsIgnoreCase("direct")) {
+                options |= LookupService.GEOIP_DIRECT_INDEX;
+            } else if(option.equalsIgnoreCase("ranges")) {
+                options |= LookupService.GEOIP_RANGE_TABLE;
+            } else if(option.equalsIgnoreCase("stride")) {
+                options |= LookupService.GEOIP_STRIDE_TRIE;
+            } else if(option.equalsIgnoreCase("offheap")) {
+                options |= LookupService.GEOIP_OFFHEAP_CACHE;
+            } else if(option.equalsIgnoreCase("pages")) {
+                options |= LookupService.GEOIP_PAGE_CACHE;
+            } else if(option.equalsIgnoreCase("columnar")) {
+                options |= LookupService.GEOIP_COLUMNAR_CACHE;
+            } else if(option.length() > 0) {
+                ConsoleLogger.info("Unknown database option " + option);
+            }
+        }
+        return options;
+    }
+
+    /**
+     * Get the number of networks the city lookup cache holds. 0 disables
+     * the cache.
+     *
+     * @return The cache capacity
+     */
+    public int getPrefixCacheSize() {
+        String key = "Cache.prefixCacheSize";
+        if(conf.getString(key) == null) {
+            conf.setProperty(key, 4096);
+        }
+        return conf.getInt(key, 4096);
+    }
+
+    /**
+     * Get the number of addresses the city session cache holds. 0 disables
+     * the cache.
+     *
+     * @return The cache capacity
+     */
+    public int getSessionCacheSize() {
+        String key = "Cache.sessionCacheSize";
+        if(conf.getString(key) == null) {
+            conf.setProperty(key, 1024);
+        }
+        return conf.getInt(key, 1024);
+    }
+
+    /**
+     * Get the number of 4KB record pages the page cache holds, used with the
+     * pages database option. 0 disables the cache.
+     *
+     * @return The cache capacity
+     */
+    public int getPageCacheSize() {
+        String key = "Cache.pageCacheSize";
+        if(conf.getString(key) == null) {
+            conf.setProperty(key, 1024);
+        }
+        return conf.getInt(key, 1024);
+    }
+
     public String getIPv6DatabasePath() {
         String key = "Path.IPv6Database";
         if(conf.getString(key) == null) {
@@ -110,4 +228,58 @@ public class Settings {
         }
         return conf.getString(key);
     }
+
+    /**
+     * Get the path of the ASN database. An org or ISP database can be
+     * configured here instead.
+     *
+     * @return The path
+     */
+    public String getASNDatabasePath() {
+        String key = "Path.asnDatabase";
+        if(conf.getString(key) == null) {
+            return this.ASNDATABASEPATH;
+        }
+        return conf.getString(key);
+    }
+
+    public String getOrgDatabasePath() {
+        String key = "Path.orgDatabase";
+        if(conf.getString(key) == null) {
+            return this.ORGDATABASEPATH;
+        }
+        return conf.getString(key);
+    }
+
+    public String getISPDatabasePath() {
+        String key = "Path.ispDatabase";
+        if(conf.getString(key) == null) {
+            return this.ISPDATABASEPATH;
+        }
+        return conf.getString(key);
+    }
+
+    public String getProxyDatabasePath() {
+        String key = "Path.proxyDatabase";
+        if(conf.getString(key) == null) {
+            return this.PROXYDATABASEPATH;
+        }
+        return conf.getString(key);
+    }
+
+    public String getNetSpeedDatabasePath() {
+        String key = "Path.netSpeedDatabase";
+        if(conf.getString(key) == null) {
+            return this.NETSPEEDDATABASEPATH;
+        }
+        return conf.getString(key);
+    }
+
+    public String getRegionDatabasePath() {
+        String key = "Path.regionDatabase";
+        if(conf.getString(key) == null) {
+            return this.REGIONDATABASEPATH;
+        }
+        return conf.getString(key);
+    }
 }
@@ -22,6 +22,9 @@ import java.io.IOException;
 import java.net.HttpURLConnection;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.Date;
 import java.util.zip.GZIPInputStream;
 
@@ -51,14 +54,29 @@ public class Updater {
             updateFile(url, file, settings.getLastUpdated());
             ConsoleLogger.info(settings.IPV6DATABASEBATH + " updated");
         }
+
+        if(settings.getASNDatabasePath().equals(settings.ASNDATABASEPATH)) {
+            File file = new File(settings.ASNDATABASEPATH);
+            if(file.exists() && settings.isUpdaterDisabled()) return;
+            URL url = new URL(settings.getASNDatabaseURL());
+            updateFile(url, file, settings.getLastUpdated());
+            ConsoleLogger.info(settings.ASNDATABASEPATH + " updated");
+        }
         settings.setLastUpdated(new Date().getTime());
         settings.write();
     }
 
+    /**
+     * Download a database into a temporary file next to it and move it over
+     * the old one once it is complete. Lookups may be reading the old file
+     * through a mapping or positional reads, so it is never rewritten in
+     * place, and the file watcher only ever sees a complete database.
+     */
     private static void updateFile(URL url, File file, long lastUpdated) {
         HttpURLConnection con = null;
         BufferedOutputStream out = null;
         GZIPInputStream in = null;
+        File tmp = null;
 
         try {
             con = (HttpURLConnection) url.openConnection();
@@ -70,12 +88,23 @@ public class Updater {
 
             if(con.getResponseCode() == HttpURLConnection.HTTP_OK) {
                 byte[] buffer = new byte[4096];
-                out = new BufferedOutputStream(new FileOutputStream(file));
+                File dir = file.getAbsoluteFile().getParentFile();
+                tmp = File.createTempFile(file.getName(), ".tmp", dir);
+                out = new BufferedOutputStream(new FileOutputStream(tmp));
                 in = new GZIPInputStream(con.getInputStream());
                 int len;
                 while((len = in.read(buffer, 0, buffer.length)) > -1) {
                     out.write(buffer, 0, len);
                 }
+                out.close();
+                out = null;
+                try {
+                    Files.move(tmp.toPath(), file.toPath(),
+                            StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                } catch(AtomicMoveNotSupportedException e) {
+                    Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+                }
+                tmp = null;
             }
         } catch(IOException e) {
             ConsoleLogger.info(e.getMessage());
@@ -85,6 +114,9 @@ public class Updater {
             } catch(IOException e) {
             } catch(NullPointerException e) {
             }
+            if(tmp != null) {
+                tmp.delete();
+            }
             try {
                 in.close();
             } catch(IOException e) {